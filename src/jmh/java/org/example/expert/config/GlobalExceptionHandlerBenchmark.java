@@ -0,0 +1,32 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 오류 응답 본문을 만드는 비용과, 예외 생성(스택 트레이스 포함)부터 핸들러까지의 비용을 측정합니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> getErrorResponse() {
+        return globalExceptionHandler.getErrorResponse(HttpStatus.BAD_REQUEST, "Todo not found");
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> throwAndHandleInvalidRequest() {
+        try {
+            throw new InvalidRequestException("Todo not found");
+        } catch (InvalidRequestException e) {
+            return globalExceptionHandler.invalidRequestExceptionException(e);
+        }
+    }
+}
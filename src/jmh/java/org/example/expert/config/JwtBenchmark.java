@@ -0,0 +1,90 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// jjwt 빌더/파서 경로와 JwtCodec 경로의 처리량과 할당량(-prof gc)을 비교합니다.
+// JwtUtil 경로는 Bearer 접두사 처리까지 포함한 실제 발급/검증 비용입니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtBenchmark {
+
+    private static final String SECRET = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private Key key;
+    private JwtCodec jwtCodec;
+    private JwtUtil jwtUtil;
+    private String token;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        jwtCodec = new JwtCodec(key);
+        long now = System.currentTimeMillis();
+        token = jwtCodec.encode(1L, "user@example.com", UserRole.USER, now, now + 60 * 60 * 1000L);
+
+        jwtUtil = new JwtUtil();
+        Field secretKey = ReflectionUtils.findField(JwtUtil.class, "secretKey");
+        ReflectionUtils.makeAccessible(secretKey);
+        ReflectionUtils.setField(secretKey, jwtUtil, SECRET);
+        jwtUtil.init();
+        bearerToken = jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public String createWithJjwt() {
+        Date date = new Date();
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(date.getTime() + 60 * 60 * 1000L))
+                .setIssuedAt(date)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String createWithCodec() {
+        long now = System.currentTimeMillis();
+        return jwtCodec.encode(1L, "user@example.com", UserRole.USER, now, now + 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public Claims verifyWithJjwt() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public VerifiedToken verifyWithCodec() {
+        return jwtCodec.decode(token, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public String createWithJwtUtil() {
+        return jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyWithJwtUtil() {
+        return jwtUtil.verifyToken(jwtUtil.substringToken(bearerToken));
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.config;
+
+import org.example.expert.config.LatencyHistograms.MethodLatency;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+// 메서드 하나를 직접 호출할 때와 LatencyTimingAspect 프록시를 거칠 때의 호출당 시간을 비교합니다.
+// proxiedWithTiming - proxiedWithoutTiming 이 기록 자체의 오버헤드입니다. (목표: 1µs 미만)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class LatencyTimingBenchmark {
+
+    private SampleService direct;
+    private SampleService proxiedWithoutTiming;
+    private SampleService proxiedWithTiming;
+    private MethodLatency latency;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        LatencyHistograms latencyHistograms = new LatencyHistograms();
+        direct = new SampleService();
+
+        AspectJProxyFactory plain = new AspectJProxyFactory(new SampleService());
+        plain.setProxyTargetClass(true);
+        proxiedWithoutTiming = plain.getProxy();
+
+        AspectJProxyFactory timed = new AspectJProxyFactory(new SampleService());
+        timed.setProxyTargetClass(true);
+        timed.addAspect(new LatencyTimingAspect(latencyHistograms));
+        proxiedWithTiming = timed.getProxy();
+
+        latency = latencyHistograms.get("service", direct, SampleService.class.getMethod("work", long.class));
+    }
+
+    @Benchmark
+    public long directCall() {
+        return direct.work(42);
+    }
+
+    @Benchmark
+    public long proxiedWithoutTiming() {
+        return proxiedWithoutTiming.work(42);
+    }
+
+    @Benchmark
+    public long proxiedWithTiming() {
+        return proxiedWithTiming.work(42);
+    }
+
+    // 조회가 끝난 기록기에 nanoTime 두 번과 기록만 수행합니다.
+    @Benchmark
+    public long recordOnly() {
+        long start = System.nanoTime();
+        long result = direct.work(42);
+        latency.record(System.nanoTime() - start);
+        return result;
+    }
+
+    @Service
+    public static class SampleService {
+        public long work(long value) {
+            return value * 31 + 7;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 회원가입(encode)과 로그인(matches) 한 건의 bcrypt 비용을 cost별로 측정합니다.
+// PasswordHashExecutor를 거치므로 작업 전달과 결과 대기 비용도 포함됩니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "Password1";
+
+    @Param({"4", "10"})
+    private int cost;
+
+    private PasswordHashExecutor passwordHashExecutor;
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordHashExecutor = new PasswordHashExecutor(new SimpleMeterRegistry(), 1, 64, 60_000);
+        passwordEncoder = new PasswordEncoder(passwordHashExecutor, cost);
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashExecutor.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
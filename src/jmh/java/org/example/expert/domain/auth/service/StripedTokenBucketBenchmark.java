@@ -0,0 +1,39 @@
+package org.example.expert.domain.auth.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 스레드 수(-t 1, 2, 4, ...)를 바꿔 실행해 서로 다른 키에 대한 처리량이 코어 수에 비례해 늘어나는지 확인합니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StripedTokenBucketBenchmark {
+
+    private static final int KEYS = 4096;
+
+    private StripedTokenBucket bucket;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        bucket = new StripedTokenBucket(64, 1024, 1_000_000, 1_000_000);
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "user" + i + "@example.com";
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long singleThread() {
+        return bucket.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long allCores() {
+        return bucket.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 조회 한 페이지를 엔티티(+fetch join된 User)로 읽어 DTO로 복사하는 경로와
+// JPQL 생성자 표현식으로 필요한 컬럼만 읽는 경로의 지연 시간과 할당량(-prof gc)을 비교합니다.
+// 두 경로 모두 서비스와 같은 읽기 전용 트랜잭션 안에서 실행합니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoReadBenchmark {
+
+    private static final int TODOS = 1_000;
+    private static final int COMMENTS = 200;
+    private static final int PAGE_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private long todoId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==",
+                        "weather.snapshot.path=build/jmh-weather-snapshot.txt",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        entityManager = context.getBean(EntityManager.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        // 작성자 password는 실제와 같은 길이의 bcrypt 해시로 채웁니다.
+        User user = context.getBean(UserRepository.class).save(new User("user@example.com",
+                "$2a$10$abcdefghijklmnopqrstuu5RzEfc0bnpVdyJVn8F7ryXCnzTxUg7i", UserRole.USER));
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < TODOS; i++) {
+            body.append("{\"title\":\"title").append(i).append("\",\"contents\":\"contents").append(i)
+                    .append("\",\"weather\":\"Sunny\",\"userId\":").append(user.getId());
+            if (i == 0) {
+                body.append(",\"comments\":[");
+                for (int j = 0; j < COMMENTS; j++) {
+                    body.append(j == 0 ? "" : ",").append("{\"contents\":\"comment").append(j)
+                            .append("\",\"userId\":").append(user.getId()).append('}');
+                }
+                body.append(']');
+            }
+            body.append("}\n");
+        }
+        context.getBean(TodoImportService.class)
+                .importTodos(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+        todoId = readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT MIN(t.id) FROM Todo t", Long.class)
+                .getSingleResult());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> todosAsEntities() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT t FROM Todo t LEFT JOIN FETCH t.user ORDER BY t.modifiedAt DESC, t.id DESC", Todo.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TodoResponse> todosAsProjection() {
+        return readOnlyTransaction.execute(status -> todoRepository.findFirstSlice(PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsAsEntities() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId ORDER BY c.createdAt, c.id", Comment.class)
+                .setParameter("todoId", todoId)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(comment -> new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsAsProjection() {
+        return readOnlyTransaction.execute(status -> commentRepository.findFirstSliceByTodoId(todoId, PageRequest.of(0, PAGE_SIZE)));
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherSnapshotStore;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// DB와 날씨 API를 고정 값으로 바꾼 뒤 TodoService의 엔티티/DTO 변환과 응답 직렬화 비용만 측정합니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TodoServiceBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private TodoService todoService;
+    private ObjectMapper objectMapper;
+    private AuthUser authUser;
+    private TodoSaveRequest todoSaveRequest;
+    private Page<TodoResponse> page;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoResponse> todos = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            todos.add(new TodoResponse(id, "title" + id, "contents" + id, "Sunny", 1L, "user@example.com", now, now));
+        }
+
+        // 필요한 조회 메서드만 고정 값을 돌려주는 저장소
+        TodoRepository todoRepository = (TodoRepository) Proxy.newProxyInstance(
+                TodoRepository.class.getClassLoader(),
+                new Class<?>[]{TodoRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> args[0];
+                    case "findPageByOrderByModifiedAtDesc" -> todos;
+                    case "count" -> 1_000_000L;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WeatherClient weatherClient = new WeatherClient(null, new WeatherSnapshotStore("build/jmh-weather-snapshot.txt"), meterRegistry) {
+            @Override
+            public String getTodayWeather() {
+                return "Sunny";
+            }
+        };
+        TodoWeatherEnricher todoWeatherEnricher = new TodoWeatherEnricher(todoRepository, weatherClient, meterRegistry, false, 1, 1, 1, 0, 0);
+        todoService = new TodoService(todoRepository, weatherClient, todoWeatherEnricher, new TodoCountCache(todoRepository, meterRegistry));
+
+        // 컨트롤러와 같은 설정의 ObjectMapper로 Page를 그대로 직렬화합니다.
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        todoSaveRequest = new TodoSaveRequest("title", "contents");
+        page = todoService.getTodosWithApproximateCount(1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TodoSaveResponse saveTodo() {
+        return todoService.saveTodo(authUser, todoSaveRequest);
+    }
+
+    @Benchmark
+    public Page<TodoResponse> getTodosWithApproximateCount() {
+        return todoService.getTodosWithApproximateCount(1, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] serializeTodoPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
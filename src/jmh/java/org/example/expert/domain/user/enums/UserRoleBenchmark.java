@@ -0,0 +1,36 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 회원가입/권한 변경 요청의 역할 문자열 변환 비용을 측정합니다. (대소문자 무시, 잘못된 값은 예외)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserRoleBenchmark {
+
+    private String admin = "ADMIN";
+    private String lowerCaseUser = "user";
+    private String invalid = "GUEST";
+
+    @Benchmark
+    public UserRole first() {
+        return UserRole.of(admin);
+    }
+
+    @Benchmark
+    public UserRole lastIgnoringCase() {
+        return UserRole.of(lowerCaseUser);
+    }
+
+    @Benchmark
+    public UserRole invalid() {
+        try {
+            return UserRole.of(invalid);
+        } catch (InvalidRequestException e) {
+            return null;
+        }
+    }
+}
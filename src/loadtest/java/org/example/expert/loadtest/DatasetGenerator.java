@@ -0,0 +1,182 @@
+package org.example.expert.loadtest;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 부하 테스트용 데이터셋을 H2 파일 DB에 JDBC 배치 INSERT로 채웁니다. 기존 데이터는 지워집니다.
+// 스키마는 애플리케이션을 ddl-auto=create 로 기동해 엔티티 정의 그대로 만듭니다.
+//
+// ./gradlew loadSeed --args="--users=1000000 --todos=1000000 --comments-per-todo=5 --managers-per-todo=2"
+//
+// 모든 사용자의 비밀번호는 Password1 이고 1번 사용자만 ADMIN 입니다.
+// i번 일정의 작성자는 ((i - 1) % users) + 1 번 사용자이며, 작성자 외에 다음 번호의 사용자들이 담당자로 등록됩니다.
+public class DatasetGenerator {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final Connection connection;
+    private final int batchSize;
+
+    private DatasetGenerator(Connection connection, int batchSize) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions(args,
+                "db", "users", "todos", "comments-per-todo", "managers-per-todo", "password-cost", "batch-size");
+        String path = options.get("db", LoadTestDatabase.DEFAULT_PATH);
+        long users = options.getInt("users", 1_000_000);
+        long todos = options.getInt("todos", 1_000_000);
+        int commentsPerTodo = options.getInt("comments-per-todo", 5);
+        int managersPerTodo = options.getInt("managers-per-todo", 2);
+        int passwordCost = options.getInt("password-cost", 10);
+        int batchSize = options.getInt("batch-size", 10_000);
+        if (managersPerTodo < 1 || managersPerTodo > users) {
+            throw new IllegalArgumentException("managers-per-todo는 1 이상 users 이하여야 합니다.");
+        }
+
+        try (ConfigurableApplicationContext context = LoadTestDatabase
+                .application(path, LoadTestDatabase.DEFAULT_JWT_SECRET, "create")
+                .web(WebApplicationType.NONE)
+                .run();
+             Connection connection = context.getBean(DataSource.class).getConnection()) {
+            connection.setAutoCommit(false);
+            DatasetGenerator generator = new DatasetGenerator(connection, batchSize);
+
+            long start = System.nanoTime();
+            generator.insertUsers(users, BCrypt.withDefaults().hashToString(passwordCost, LoadTestDatabase.PASSWORD.toCharArray()));
+            generator.insertTodos(users, todos);
+            generator.insertManagers(users, todos, managersPerTodo);
+            generator.insertComments(users, todos, commentsPerTodo);
+            long rows = users + todos * (1 + managersPerTodo + commentsPerTodo);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.printf("데이터셋 생성 완료: %s, %,d rows, %,d ms (%,d rows/s)%n",
+                    LoadTestDatabase.url(path), rows, elapsedMillis, rows * 1000 / Math.max(elapsedMillis, 1));
+        }
+    }
+
+    private void insertUsers(long users, String password) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(BASE);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (email, password, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?)")) {
+            Progress progress = new Progress("users", users);
+            for (long user = 1; user <= users; user++) {
+                statement.setString(1, LoadTestDatabase.email(user));
+                statement.setString(2, password);
+                statement.setString(3, user == 1 ? "ADMIN" : "USER");
+                statement.setTimestamp(4, createdAt);
+                statement.setTimestamp(5, createdAt);
+                add(statement, progress);
+            }
+            flush(statement, progress);
+        }
+    }
+
+    private void insertTodos(long users, long todos) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO todos (title, contents, weather, weather_pending, user_id, created_at, modified_at) VALUES (?, ?, ?, FALSE, ?, ?, ?)")) {
+            Progress progress = new Progress("todos", todos);
+            for (long todo = 1; todo <= todos; todo++) {
+                Timestamp createdAt = Timestamp.valueOf(BASE.plusSeconds(todo));
+                statement.setString(1, "title " + todo);
+                statement.setString(2, "contents " + todo);
+                statement.setString(3, "Sunny");
+                statement.setLong(4, authorOf(todo, users));
+                statement.setTimestamp(5, createdAt);
+                statement.setTimestamp(6, createdAt);
+                add(statement, progress);
+            }
+            flush(statement, progress);
+        }
+    }
+
+    private void insertManagers(long users, long todos, int managersPerTodo) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO managers (user_id, todo_id) VALUES (?, ?)")) {
+            Progress progress = new Progress("managers", todos * managersPerTodo);
+            for (long todo = 1; todo <= todos; todo++) {
+                for (int manager = 0; manager < managersPerTodo; manager++) {
+                    statement.setLong(1, (authorOf(todo, users) - 1 + manager) % users + 1);
+                    statement.setLong(2, todo);
+                    add(statement, progress);
+                }
+            }
+            flush(statement, progress);
+        }
+    }
+
+    private void insertComments(long users, long todos, int commentsPerTodo) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)")) {
+            Progress progress = new Progress("comments", todos * commentsPerTodo);
+            for (long todo = 1; todo <= todos; todo++) {
+                for (int comment = 1; comment <= commentsPerTodo; comment++) {
+                    Timestamp createdAt = Timestamp.valueOf(BASE.plusSeconds(todo).plusNanos(comment * 1_000_000L));
+                    statement.setString(1, "comment " + comment);
+                    statement.setLong(2, (todo + comment) % users + 1);
+                    statement.setLong(3, todo);
+                    statement.setTimestamp(4, createdAt);
+                    statement.setTimestamp(5, createdAt);
+                    add(statement, progress);
+                }
+            }
+            flush(statement, progress);
+        }
+    }
+
+    private static long authorOf(long todoId, long users) {
+        return (todoId - 1) % users + 1;
+    }
+
+    // 배치 크기마다 실행하고 커밋해, 트랜잭션 로그가 한없이 커지지 않게 합니다.
+    private void add(PreparedStatement statement, Progress progress) throws SQLException {
+        statement.addBatch();
+        if (++progress.pending == batchSize) {
+            flush(statement, progress);
+        }
+    }
+
+    private void flush(PreparedStatement statement, Progress progress) throws SQLException {
+        if (progress.pending == 0) {
+            return;
+        }
+        statement.executeBatch();
+        connection.commit();
+        progress.advance();
+    }
+
+    private static class Progress {
+
+        private final String table;
+        private final long total;
+        private final long start = System.nanoTime();
+        private long inserted;
+        private int pending;
+        private long lastReport = start;
+
+        private Progress(String table, long total) {
+            this.table = table;
+            this.total = total;
+        }
+
+        private void advance() {
+            inserted += pending;
+            pending = 0;
+            long now = System.nanoTime();
+            if (inserted == total || now - lastReport >= TimeUnit.SECONDS.toNanos(5)) {
+                lastReport = now;
+                long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(now - start), 1);
+                System.out.printf("%-8s %,d / %,d (%,d rows/s)%n", table, inserted, total, inserted * 1000 / elapsedMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package org.example.expert.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 열린 모델(open model) 부하 생성기: 응답을 기다리지 않고 정해진 시각마다 요청을 보냅니다.
+// 지연 시간은 실제 전송 시각이 아니라 "보냈어야 할 시각"부터 재므로, 서버가 밀려 요청이 늦게 나가도
+// 그 대기 시간이 지연 시간에 포함됩니다. (coordinated omission 보정)
+// 동시 요청 상한에 걸린 요청도 버리지 않고 자리가 날 때까지 기다렸다 보내므로, 서버가 포화된 구간의 대기 시간이 분위수에 포함됩니다.
+//
+// DatasetGenerator로 만든 DB를 사용해 애플리케이션을 이 프로세스 안에서 기동합니다:
+//   ./gradlew loadTest --args="--rate=500 --duration-seconds=60 --mix=signin:1,todos:4,comments:3,managers:2"
+// --virtual-threads=true 로 요청 처리를 가상 스레드에서 실행합니다. (spring.threads.virtual.enabled, 기본값 false)
+// 이미 떠 있는 애플리케이션을 대상으로 하려면 --base-url 과 데이터셋 크기(--users, --todos)를 넘깁니다.
+// 이 경우 애플리케이션은 같은 jwt.secret.key 로, 로그인 제한(auth.signin.throttle.enabled=false)을 끄고 띄워야 합니다.
+public class LoadGenerator {
+
+    private static final long[] PERCENTILES_X10 = {500, 900, 990, 999};
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final long users;
+    private final long todos;
+    private final String[] tokens;
+    private final Endpoint[] schedule;
+    private final Executor executor;
+    private final Semaphore slots;
+
+    // 예정 시각이 지났지만 아직 응답을 받지 못한 요청 수입니다. (자리를 기다리는 요청 포함)
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private enum Endpoint {
+        SIGNIN, TODOS, COMMENTS, MANAGERS;
+
+        private final Histogram corrected = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(5), 3);
+        private final Histogram uncorrected = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(5), 3);
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong delayed = new AtomicLong();
+
+        private static Endpoint of(String name) {
+            return valueOf(name.trim().toUpperCase());
+        }
+    }
+
+    private LoadGenerator(HttpClient httpClient, Executor executor, String baseUrl, long users, long todos, String[] tokens,
+                          Endpoint[] schedule, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.todos = todos;
+        this.tokens = tokens;
+        this.schedule = schedule;
+        this.executor = executor;
+        this.slots = new Semaphore(maxInFlight, true);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions(args,
+                "db", "base-url", "users", "todos", "jwt-secret", "rate", "duration-seconds", "warmup-seconds",
+                "mix", "tokens", "max-in-flight", "virtual-threads");
+        String jwtSecret = options.get("jwt-secret", LoadTestDatabase.DEFAULT_JWT_SECRET);
+        boolean virtualThreads = Boolean.parseBoolean(options.get("virtual-threads", "false"));
+        double rate = options.getDouble("rate", 200);
+        int durationSeconds = options.getInt("duration-seconds", 60);
+        int warmupSeconds = options.getInt("warmup-seconds", 10);
+        Endpoint[] schedule = parseMix(options.get("mix", "signin:1,todos:4,comments:3,managers:2"));
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl;
+        long users;
+        long todos;
+        JwtUtil jwtUtil;
+        if (options.has("base-url")) {
+            baseUrl = options.get("base-url", null);
+            users = options.getInt("users", 1_000_000);
+            todos = options.getInt("todos", 1_000_000);
+            jwtUtil = jwtUtil(jwtSecret);
+        } else {
+            String path = options.get("db", LoadTestDatabase.DEFAULT_PATH);
+            context = boot(path, jwtSecret, virtualThreads);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            users = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            todos = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Long.class);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            jwtUtil = context.getBean(JwtUtil.class);
+        }
+        if (users == 0 || todos == 0) {
+            throw new IllegalStateException("데이터셋이 비어 있습니다. 먼저 loadSeed 태스크를 실행해주세요.");
+        }
+
+        // 토큰 발급 비용이 측정에 섞이지 않도록 미리 만들어 둡니다.
+        String[] tokens = new String[(int) Math.min(options.getInt("tokens", 10_000), users)];
+        for (int i = 0; i < tokens.length; i++) {
+            long userId = ThreadLocalRandom.current().nextLong(users) + 1;
+            tokens[i] = jwtUtil.createToken(userId, LoadTestDatabase.email(userId), userId == 1 ? UserRole.ADMIN : UserRole.USER);
+        }
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+        try {
+            LoadGenerator generator = new LoadGenerator(httpClient, executor, baseUrl, users, todos, tokens, schedule,
+                    options.getInt("max-in-flight", 10_000));
+            System.out.printf("대상 %s, 사용자 %,d명, 일정 %,d개, %.0f req/s, 예열 %ds, 측정 %ds%n",
+                    baseUrl, users, todos, rate, warmupSeconds, durationSeconds);
+            if (context != null) {
+                System.out.printf("Java %s, CPU %d개, 최대 힙 %,dMB, 가상 스레드 %s%n",
+                        Runtime.version(), Runtime.getRuntime().availableProcessors(),
+                        Runtime.getRuntime().maxMemory() / (1024 * 1024), virtualThreads);
+            }
+            generator.run(rate, warmupSeconds, durationSeconds);
+        } finally {
+            executor.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private void run(double rate, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = schedule[(int) (i % schedule.length)];
+            // 예열 구간에 예정된 요청은 보내기만 하고 기록하지 않습니다.
+            send(endpoint, intended, intended >= measureFrom);
+        }
+
+        // 측정 구간에 보낸 요청이 모두 끝날 때까지 기다립니다.
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        // 처리량은 설정한 측정 시간이 아니라 측정 시작부터 마지막 응답까지 실제로 걸린 시간으로 나눕니다.
+        long elapsedNanos = System.nanoTime() - measureFrom;
+        int unfinished = outstanding.get();
+        report(elapsedNanos);
+        if (unfinished > 0) {
+            System.out.printf("대기 시간(30초) 안에 끝나지 않아 집계하지 못한 요청: %,d%n", unfinished);
+        }
+    }
+
+    private void send(Endpoint endpoint, long intended, boolean measured) throws InterruptedException {
+        outstanding.incrementAndGet();
+        // 열린 모델이라도 메모리를 지키기 위해 동시 요청 수에는 상한을 둡니다.
+        // 넘치면 버리지 않고 가상 스레드에서 자리가 날 때까지(FIFO) 기다렸다 보내며, 그 대기 시간도 보정 지연 시간에 포함됩니다.
+        // tryAcquire()는 공정성을 무시하고 끼어들므로, 기다리는 요청보다 앞서지 않도록 시간 제한 버전을 사용합니다.
+        if (slots.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            dispatch(endpoint, intended, measured);
+            return;
+        }
+        if (measured) {
+            endpoint.delayed.incrementAndGet();
+        }
+        executor.execute(() -> {
+            slots.acquireUninterruptibly();
+            dispatch(endpoint, intended, measured);
+        });
+    }
+
+    private void dispatch(Endpoint endpoint, long intended, boolean measured) {
+        long sentAt = System.nanoTime();
+        httpClient.sendAsync(request(endpoint), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long now = System.nanoTime();
+                    slots.release();
+                    outstanding.decrementAndGet();
+                    if (!measured) {
+                        return;
+                    }
+                    endpoint.corrected.recordValue(now - intended);
+                    endpoint.uncorrected.recordValue(now - sentAt);
+                    if (failure != null || response.statusCode() >= 400) {
+                        endpoint.errors.incrementAndGet();
+                    }
+                });
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = tokens[random.nextInt(tokens.length)];
+        long todoId = random.nextLong(todos) + 1;
+        HttpRequest.Builder builder = switch (endpoint) {
+            case SIGNIN -> {
+                long userId = random.nextLong(users) + 1;
+                String body = "{\"email\":\"" + LoadTestDatabase.email(userId) + "\",\"password\":\"" + LoadTestDatabase.PASSWORD + "\"}";
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/auth/signin"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body));
+            }
+            case TODOS -> HttpRequest.newBuilder(URI.create(baseUrl + "/todos?page=" + (random.nextInt(10) + 1) + "&size=10"))
+                    .header("Authorization", token);
+            case COMMENTS -> HttpRequest.newBuilder(URI.create(baseUrl + "/todos/" + todoId + "/comments"))
+                    .header("Authorization", token);
+            case MANAGERS -> HttpRequest.newBuilder(URI.create(baseUrl + "/todos/" + todoId + "/managers"))
+                    .header("Authorization", token);
+        };
+        return builder.timeout(Duration.ofSeconds(30)).build();
+    }
+
+    private void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        Histogram total = new Histogram(TimeUnit.MINUTES.toNanos(5), 3);
+        long totalErrors = 0;
+        long totalDelayed = 0;
+
+        System.out.println();
+        System.out.printf("%-10s %10s %8s %8s %10s %9s %9s %9s %9s %9s %13s%n",
+                "endpoint", "requests", "errors", "delayed", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "p99 raw ms");
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.corrected.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(endpoint.corrected);
+            totalErrors += endpoint.errors.get();
+            totalDelayed += endpoint.delayed.get();
+            print(endpoint.name().toLowerCase(), endpoint.corrected, endpoint.errors.get(), endpoint.delayed.get(),
+                    seconds, endpoint.uncorrected);
+        }
+        print("total", total, totalErrors, totalDelayed, seconds, null);
+        System.out.printf("측정 시간 %.1fs (측정 시작부터 마지막 응답까지)%n", seconds);
+        System.out.println("지연 시간은 예정 전송 시각 기준(보정)이며, 'p99 raw'는 실제 전송 시각 기준입니다.");
+        if (totalDelayed > 0) {
+            System.out.println("delayed는 동시 요청 상한(max-in-flight)에 걸려 자리를 기다린 뒤 보낸 요청으로, 그 대기 시간이 보정 지연 시간에 포함됩니다.");
+        }
+    }
+
+    private static void print(String name, Histogram histogram, long errors, long delayed, double seconds, Histogram uncorrected) {
+        List<String> percentiles = new ArrayList<>();
+        for (long percentileX10 : PERCENTILES_X10) {
+            percentiles.add(millis(histogram.getValueAtPercentile(percentileX10 / 10.0)));
+        }
+        System.out.printf("%-10s %,10d %,8d %,8d %10.1f %9s %9s %9s %9s %9s %13s%n",
+                name, histogram.getTotalCount(), errors, delayed, histogram.getTotalCount() / seconds,
+                percentiles.get(0), percentiles.get(1), percentiles.get(2), percentiles.get(3),
+                millis(histogram.getMaxValue()),
+                uncorrected != null ? millis(uncorrected.getValueAtPercentile(99)) : "");
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1e6);
+    }
+
+    // "signin:1,todos:4" 를 가중치만큼 반복한 뒤 섞어, 요청 순서가 고르게 퍼지도록 합니다.
+    private static Endpoint[] parseMix(String mix) {
+        List<Endpoint> schedule = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            for (int i = 0; i < weight; i++) {
+                schedule.add(Endpoint.of(parts[0]));
+            }
+        }
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("mix에 엔드포인트가 없습니다.");
+        }
+        Collections.shuffle(schedule, new Random(42));
+        return schedule.toArray(Endpoint[]::new);
+    }
+
+    // 로그인 제한을 끄고, 저장된 해시와 같은 bcrypt cost를 사용해 로그인 시 재해시가 일어나지 않게 합니다.
+    private static ConfigurableApplicationContext boot(String path, String jwtSecret, boolean virtualThreads) {
+        ConfigurableApplicationContext probe = LoadTestDatabase.application(path, jwtSecret, "none")
+                .web(WebApplicationType.NONE)
+                .run();
+        int cost;
+        try {
+            String password = probe.getBean(JdbcTemplate.class)
+                    .queryForObject("SELECT password FROM users WHERE id = 1", String.class);
+            cost = PasswordEncoder.costOf(password);
+        } finally {
+            probe.close();
+        }
+        return LoadTestDatabase.application(path, jwtSecret, "none",
+                "server.port=0",
+                "auth.signin.throttle.enabled=false",
+                "password.hash.cost=" + cost,
+                "spring.threads.virtual.enabled=" + virtualThreads
+        ).run();
+    }
+
+    // 외부 애플리케이션용 토큰 발급기: 빈 없이 JwtUtil을 직접 초기화합니다.
+    private static JwtUtil jwtUtil(String secret) {
+        JwtUtil jwtUtil = new JwtUtil();
+        Field secretKey = ReflectionUtils.findField(JwtUtil.class, "secretKey");
+        ReflectionUtils.makeAccessible(secretKey);
+        ReflectionUtils.setField(secretKey, jwtUtil, secret);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// 부하 테스트용 H2 파일 DB와, 그 DB를 사용하는 ExpertApplication 기동 설정입니다.
+// 데이터셋 규칙(사용자 이메일, 비밀번호, 작성자/담당자 배치)은 테스트의 SeedDataset과 같습니다.
+final class LoadTestDatabase {
+
+    static final String DEFAULT_PATH = "build/loadtest/expert";
+    static final String DEFAULT_JWT_SECRET = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+    static final String PASSWORD = "Password1";
+
+    private LoadTestDatabase() {
+    }
+
+    // AUTO_SERVER=TRUE: 별도로 띄운 애플리케이션(bootRun)도 같은 파일을 열 수 있습니다.
+    static String url(String path) {
+        return "jdbc:h2:file:" + Path.of(path).toAbsolutePath() + ";AUTO_SERVER=TRUE";
+    }
+
+    static String email(long userId) {
+        return "user" + userId + "@example.com";
+    }
+
+    static SpringApplicationBuilder application(String path, String jwtSecret, String ddlAuto, String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=" + url(path),
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "jwt.secret.key=" + jwtSecret,
+                "weather.snapshot.path=build/loadtest/weather-snapshot.txt",
+                "logging.level.root=WARN"
+        ));
+        properties.addAll(List.of(extraProperties));
+        return new SpringApplicationBuilder(ExpertApplication.class).properties(properties.toArray(String[]::new));
+    }
+}
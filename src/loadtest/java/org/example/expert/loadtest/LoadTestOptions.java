@@ -0,0 +1,42 @@
+package org.example.expert.loadtest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// --key=value 형식의 실행 인자. 모르는 키는 오타일 가능성이 높으므로 실패합니다.
+final class LoadTestOptions {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    LoadTestOptions(String[] args, String... knownKeys) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        for (String key : values.keySet()) {
+            if (!List.of(knownKeys).contains(key)) {
+                throw new IllegalArgumentException("알 수 없는 인자입니다: --" + key + " (사용 가능: " + String.join(", ", knownKeys) + ")");
+            }
+        }
+    }
+
+    String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    int getInt(String key, int defaultValue) {
+        return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+    }
+
+    double getDouble(String key, double defaultValue) {
+        return values.containsKey(key) ? Double.parseDouble(values.get(key)) : defaultValue;
+    }
+
+    boolean has(String key) {
+        return values.containsKey(key);
+    }
+}
@@ -1,62 +1,135 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.URI;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private final WeatherTransport weatherTransport;
+    private final WeatherSnapshotStore snapshotStore;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    // 날짜별로 파싱된 날씨 데이터를 보관합니다. 같은 날짜의 동시 요청은 하나의 원격 호출(future)을 공유합니다.
+    private final ConcurrentMap<LocalDate, CompletableFuture<WeatherTable>> cache = new ConcurrentHashMap<>();
+
+    // 원격 호출이 실패할 때 사용할 마지막 정상 데이터 (로컬 스냅샷 또는 직전 원격 응답)
+    private volatile WeatherTable lastKnownTable;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter refreshCounter;
+
+    public WeatherClient(WeatherTransport weatherTransport, WeatherSnapshotStore snapshotStore, MeterRegistry meterRegistry) {
+        this.weatherTransport = weatherTransport;
+        this.snapshotStore = snapshotStore;
+        this.hitCounter = meterRegistry.counter("weather.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("weather.cache", "result", "miss");
+        this.refreshCounter = meterRegistry.counter("weather.cache", "result", "refresh");
+
+        // 스냅샷이 있으면 기동 직후에도 원격 호출 없이 날씨를 제공합니다.
+        snapshotStore.load().ifPresent(table -> {
+            lastKnownTable = table;
+            cache.put(LocalDate.now(), CompletableFuture.completedFuture(table));
+        });
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        LocalDate today = LocalDate.now();
+        WeatherTable table = await(getOrLoad(today));
+
+        String weather = table.get(today);
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    // 지정한 날짜의 날씨를 조회합니다. 데이터는 1년치이므로 오늘 캐시된 데이터를 그대로 사용합니다.
+    public String getWeather(LocalDate date) {
+        WeatherTable table = await(getOrLoad(LocalDate.now()));
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        String weather = table.get(date);
+        if (weather == null) {
+            throw new ServerException("해당 날짜의 날씨 데이터를 찾을 수 없습니다.");
         }
+        return weather;
+    }
+
+    // 자정에 새 날짜의 데이터를 미리 받아두어 요청 스레드가 원격 호출을 기다리지 않도록 합니다.
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 0 0 * * *}")
+    public void refreshTodayWeather() {
+        LocalDate today = LocalDate.now();
+        try {
+            cache.put(today, CompletableFuture.completedFuture(fetchAndStore()));
+            refreshCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터 갱신에 실패했습니다. 다음 요청 시 다시 시도합니다.", e);
+        }
+        cache.keySet().removeIf(date -> date.isBefore(today));
+    }
 
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+    private CompletableFuture<WeatherTable> getOrLoad(LocalDate date) {
+        CompletableFuture<WeatherTable> cached = cache.get(date);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
         }
 
-        String today = getCurrentDate();
+        CompletableFuture<WeatherTable> loading = new CompletableFuture<>();
+        CompletableFuture<WeatherTable> existing = cache.putIfAbsent(date, loading);
+        if (existing != null) {
+            hitCounter.increment();
+            return existing;
+        }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+        missCounter.increment();
+        try {
+            loading.complete(fetchAndStore());
+        } catch (RuntimeException e) {
+            // 실패한 결과는 캐시하지 않습니다. 마지막 정상 데이터가 있으면 그것으로 응답합니다.
+            cache.remove(date, loading);
+            WeatherTable fallback = lastKnownTable;
+            if (fallback != null) {
+                log.warn("날씨 데이터를 가져오지 못해 마지막 정상 데이터를 사용합니다.", e);
+                loading.complete(fallback);
+            } else {
+                loading.completeExceptionally(e);
             }
         }
+        cache.keySet().removeIf(cachedDate -> cachedDate.isBefore(date));
+        return loading;
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private WeatherTable await(CompletableFuture<WeatherTable> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
+    private WeatherTable fetchAndStore() {
+        WeatherTable table = fetchWeather();
+        lastKnownTable = table;
+        snapshotStore.save(table);
+        return table;
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private WeatherTable fetchWeather() {
+        return WeatherTable.from(weatherTransport.fetch());
     }
 }
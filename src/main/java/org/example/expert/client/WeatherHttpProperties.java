@@ -0,0 +1,35 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "weather.http")
+public class WeatherHttpProperties {
+
+    private String baseUrl = "https://f-api.github.io";
+
+    // 커넥션 풀
+    private int maxConnections = 20;
+    private long connectionRequestTimeoutMs = 200;
+
+    // 호출 시간 제한
+    private long connectTimeoutMs = 1_000;
+    private long readTimeoutMs = 2_000;
+    private long deadlineMs = 3_000;
+
+    // 서킷 브레이커: 최근 windowSize 건 중 실패율이 임계치를 넘으면 openDurationMs 동안 호출을 차단합니다.
+    private int circuitWindowSize = 20;
+    private int circuitMinimumCalls = 10;
+    private double circuitFailureRateThreshold = 0.5;
+    private long circuitOpenDurationMs = 30_000;
+
+    // 헤지 요청: 첫 요청이 최근 응답 시간의 p95 만큼 지나도 끝나지 않으면 두 번째 요청을 보냅니다.
+    private boolean hedgeEnabled = false;
+    private long hedgeMinDelayMs = 50;
+    private long hedgeInitialDelayMs = 500;
+}
@@ -0,0 +1,83 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+// 원격 날씨 데이터를 로컬 파일(연중 일자 순서로 한 줄에 하나씩, 366줄)에 저장해 두고 기동 시 네트워크 없이 읽어옵니다.
+@Slf4j
+@Component
+public class WeatherSnapshotStore {
+
+    private final Path path;
+
+    public WeatherSnapshotStore(@Value("${weather.snapshot.path:data/weather-snapshot.txt}") String path) {
+        this.path = Path.of(path);
+    }
+
+    public Optional<WeatherTable> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            String[] lines = content.split("\n", -1);
+            if (lines.length < WeatherTable.SLOTS) {
+                log.warn("날씨 스냅샷 형식이 올바르지 않습니다. path={}", path);
+                return Optional.empty();
+            }
+
+            String[] weatherByDay = new String[WeatherTable.SLOTS];
+            for (int slot = 0; slot < WeatherTable.SLOTS; slot++) {
+                weatherByDay[slot] = lines[slot].isEmpty() ? null : lines[slot];
+            }
+            return Optional.of(WeatherTable.fromSlots(weatherByDay));
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 읽지 못했습니다. path={}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    // 임시 파일에 먼저 쓴 뒤 교체하므로, 읽는 쪽은 항상 완전한 파일만 보게 됩니다.
+    public void save(WeatherTable table) {
+        StringBuilder content = new StringBuilder(WeatherTable.SLOTS * 8);
+        for (int slot = 0; slot < WeatherTable.SLOTS; slot++) {
+            String weather = table.getSlot(slot);
+            if (weather != null && weather.indexOf('\n') < 0) {
+                content.append(weather);
+            }
+            content.append('\n');
+        }
+
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, content.toString().getBytes(StandardCharsets.UTF_8));
+                moveAtomically(temp);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 저장하지 못했습니다. path={}", path, e);
+        }
+    }
+
+    private void moveAtomically(Path temp) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.MonthDay;
+
+// 1년치 날씨 데이터를 연중 일자(윤년 기준 366칸) 배열로 보관해, 날짜 조회를 인덱스 계산 한 번으로 처리합니다.
+public class WeatherTable {
+
+    public static final int SLOTS = 366;
+
+    // 2월 29일도 자리를 갖도록 윤년 기준으로 인덱스를 계산합니다.
+    private static final int LEAP_YEAR = 2000;
+
+    private final String[] weatherByDay;
+
+    private WeatherTable(String[] weatherByDay) {
+        this.weatherByDay = weatherByDay;
+    }
+
+    public static WeatherTable from(WeatherDto[] weatherArray) {
+        String[] weatherByDay = new String[SLOTS];
+        for (WeatherDto weatherDto : weatherArray) {
+            Integer slot = slotOf(weatherDto.getDate());
+            if (slot != null && weatherByDay[slot] == null) {
+                weatherByDay[slot] = weatherDto.getWeather();
+            }
+        }
+        return new WeatherTable(weatherByDay);
+    }
+
+    static WeatherTable fromSlots(String[] weatherByDay) {
+        if (weatherByDay.length != SLOTS) {
+            throw new IllegalArgumentException("날씨 데이터는 " + SLOTS + "칸이어야 합니다.");
+        }
+        return new WeatherTable(weatherByDay.clone());
+    }
+
+    public String get(LocalDate date) {
+        return weatherByDay[slotOf(MonthDay.from(date))];
+    }
+
+    String getSlot(int slot) {
+        return weatherByDay[slot];
+    }
+
+    private static Integer slotOf(String date) {
+        if (date == null) {
+            return null;
+        }
+        try {
+            return slotOf(MonthDay.parse("--" + date));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int slotOf(MonthDay monthDay) {
+        return monthDay.atYear(LEAP_YEAR).getDayOfYear() - 1;
+    }
+}
@@ -0,0 +1,280 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 날씨 API 호출 전용 HTTP 계층: 커넥션 풀, 호출 시간 제한, 서킷 브레이커, 헤지 요청을 담당합니다.
+@Slf4j
+@Component
+public class WeatherTransport {
+
+    private static final int LATENCY_SAMPLES = 64;
+
+    private final WeatherHttpProperties properties;
+    private final CloseableHttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI weatherApiUri;
+    private final CircuitBreaker circuitBreaker;
+    private final ThreadPoolExecutor executor;
+
+    // 헤지 지연 계산용 최근 성공 응답 시간(ns) 링 버퍼
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_SAMPLES);
+    private final AtomicInteger latencyCursor = new AtomicInteger();
+
+    private final Timer callTimer;
+    private final Counter rejectedCounter;
+    private final Counter hedgedCounter;
+
+    public WeatherTransport(
+            WeatherHttpProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.properties = properties;
+        this.httpClient = createHttpClient(properties);
+        this.objectMapper = objectMapper;
+        this.weatherApiUri = UriComponentsBuilder
+                .fromUriString(properties.getBaseUrl())
+                .path("/f-api/weather.json")
+                .encode()
+                .build()
+                .toUri();
+        this.circuitBreaker = new CircuitBreaker(
+                properties.getCircuitWindowSize(),
+                properties.getCircuitMinimumCalls(),
+                properties.getCircuitFailureRateThreshold(),
+                properties.getCircuitOpenDurationMs()
+        );
+        // 풀 크기는 동시 호출 수 제한으로만 사용합니다. 가상 스레드 모드에서는 호출 스레드도 가상 스레드입니다.
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("weather-http-", 1).factory()
+                : runnable -> {
+                    Thread thread = new Thread(runnable, "weather-http");
+                    thread.setDaemon(true);
+                    return thread;
+                };
+        this.executor = new ThreadPoolExecutor(
+                0, properties.getMaxConnections(), 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+
+        this.callTimer = meterRegistry.timer("weather.http.calls");
+        this.rejectedCounter = meterRegistry.counter("weather.http.circuit.rejected");
+        this.hedgedCounter = meterRegistry.counter("weather.http.hedged");
+        meterRegistry.gauge("weather.http.circuit.open", circuitBreaker,
+                breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1);
+    }
+
+    public WeatherDto[] fetch() {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new ServerException("날씨 API 장애로 호출이 일시적으로 차단되었습니다.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            WeatherDto[] weatherArray = properties.isHedgeEnabled() ? fetchHedged() : fetchWithDeadline();
+            long elapsed = System.nanoTime() - start;
+            circuitBreaker.onSuccess();
+            recordLatency(elapsed);
+            callTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            return weatherArray;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            callTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        executor.shutdownNow();
+        httpClient.close();
+    }
+
+    private WeatherDto[] fetchWithDeadline() {
+        Call call = submit();
+        try {
+            return await(call.future(), properties.getDeadlineMs());
+        } finally {
+            call.cancel();
+        }
+    }
+
+    private WeatherDto[] fetchHedged() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getDeadlineMs());
+        Call primary = submit();
+        Call hedge = null;
+        try {
+            try {
+                return primary.future().get(hedgeDelayMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                hedgedCounter.increment();
+                hedge = submit();
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServerException("날씨 데이터 요청이 중단되었습니다.");
+            }
+
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            return await(firstSuccess(primary.future(), hedge.future()), Math.max(remaining, 0));
+        } finally {
+            primary.cancel();
+            if (hedge != null) {
+                hedge.cancel();
+            }
+        }
+    }
+
+    private Call submit() {
+        HttpGet request = new HttpGet(weatherApiUri);
+        try {
+            return new Call(request, CompletableFuture.supplyAsync(() -> call(request), executor));
+        } catch (RejectedExecutionException e) {
+            return new Call(request, CompletableFuture.failedFuture(new ServerException("날씨 API 동시 호출 수가 한도를 초과했습니다.")));
+        }
+    }
+
+    private WeatherDto[] call(HttpGet request) {
+        WeatherDto[] weatherArray;
+        try {
+            weatherArray = httpClient.execute(request, response -> {
+                if (response.getCode() != HttpStatus.OK.value()) {
+                    throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getCode());
+                }
+                return response.getEntity() == null ? null : objectMapper.readValue(response.getEntity().getContent(), WeatherDto[].class);
+            });
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        }
+
+        if (weatherArray == null || weatherArray.length == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+        return weatherArray;
+    }
+
+    private WeatherDto[] await(CompletableFuture<WeatherDto[]> future, long timeoutMs) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServerException("날씨 데이터 요청 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("날씨 데이터 요청이 중단되었습니다.");
+        }
+    }
+
+    // 두 요청 중 먼저 성공한 응답을 사용하고, 둘 다 실패하면 나중 실패를 전달합니다.
+    private CompletableFuture<WeatherDto[]> firstSuccess(CompletableFuture<WeatherDto[]> first, CompletableFuture<WeatherDto[]> second) {
+        CompletableFuture<WeatherDto[]> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<WeatherDto[]> call : List.of(first, second)) {
+            call.whenComplete((weatherArray, throwable) -> {
+                if (throwable == null) {
+                    result.complete(weatherArray);
+                } else if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        }
+        return result;
+    }
+
+    // CompletableFuture.cancel 은 실행 중인 호출을 멈추지 않으므로, 끝나지 않은 HTTP 요청은 직접 중단합니다.
+    // 소켓 타임아웃을 기다리지 않고 실행 슬롯과 풀 커넥션을 바로 돌려받습니다.
+    private record Call(HttpGet request, CompletableFuture<WeatherDto[]> future) {
+
+        void cancel() {
+            if (!future.isDone()) {
+                request.cancel();
+                future.cancel(true);
+            }
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+    }
+
+    private void recordLatency(long nanos) {
+        latencies.set(Math.floorMod(latencyCursor.getAndIncrement(), LATENCY_SAMPLES), nanos);
+    }
+
+    long hedgeDelayMillis() {
+        long[] samples = new long[LATENCY_SAMPLES];
+        int count = 0;
+        for (int i = 0; i < LATENCY_SAMPLES; i++) {
+            long sample = latencies.get(i);
+            if (sample > 0) {
+                samples[count++] = sample;
+            }
+        }
+        if (count == 0) {
+            return properties.getHedgeInitialDelayMs();
+        }
+
+        Arrays.sort(samples, 0, count);
+        long p95 = samples[Math.min(count - 1, (int) Math.ceil(count * 0.95) - 1)];
+        return Math.max(properties.getHedgeMinDelayMs(), TimeUnit.NANOSECONDS.toMillis(p95));
+    }
+
+    private static CloseableHttpClient createHttpClient(WeatherHttpProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMs()))
+                .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutMs()))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeoutMs()))
+                .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutMs()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(properties.getMaxConnections())
+                        .setMaxConnPerRoute(properties.getMaxConnections())
+                        .setDefaultConnectionConfig(connectionConfig)
+                        .build())
+                .setDefaultRequestConfig(requestConfig)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+}
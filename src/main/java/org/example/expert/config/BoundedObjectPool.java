@@ -0,0 +1,33 @@
+package org.example.expert.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+// 생성 비용이 큰 스레드 비안전 객체(Mac, MessageDigest 등)를 재사용하기 위한 풀입니다.
+// ThreadLocal은 요청마다 새 스레드를 쓰는 가상 스레드 모드에서 매번 새로 만들어지므로 대신 사용합니다.
+// 비어 있으면 새로 만들고, 가득 차 있으면 반납된 객체를 버리므로 호출자가 기다리는 일은 없습니다.
+class BoundedObjectPool<T> {
+
+    private final BlockingQueue<T> idle;
+    private final Supplier<T> factory;
+
+    BoundedObjectPool(int capacity, Supplier<T> factory) {
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.factory = factory;
+    }
+
+    // CPU 코어 수만큼 동시에 사용되는 경우를 기준으로 여유를 둡니다.
+    BoundedObjectPool(Supplier<T> factory) {
+        this(Runtime.getRuntime().availableProcessors() * 4, factory);
+    }
+
+    T acquire() {
+        T object = idle.poll();
+        return object != null ? object : factory.get();
+    }
+
+    void release(T object) {
+        idle.offer(object);
+    }
+}
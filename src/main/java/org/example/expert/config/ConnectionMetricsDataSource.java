@@ -0,0 +1,110 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+// 커넥션을 풀에서 얻는 데 걸린 시간(acquire)과 반납할 때까지 붙잡고 있던 시간(hold)을 풀 이름(pool 태그)별로 기록합니다.
+public class ConnectionMetricsDataSource extends DelegatingDataSource {
+
+    private final Timer acquireTimer;
+    private final Timer holdTimer;
+
+    public ConnectionMetricsDataSource(DataSource targetDataSource, String pool, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.acquireTimer = meterRegistry.timer("db.connection.acquire", "pool", pool);
+        this.holdTimer = meterRegistry.timer("db.connection.hold", "pool", pool);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        return track(obtainTargetDataSource().getConnection(), start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        return track(obtainTargetDataSource().getConnection(username, password), start);
+    }
+
+    private Connection track(Connection connection, long start) {
+        long acquiredAt = System.nanoTime();
+        long acquireNanos = acquiredAt - start;
+        acquireTimer.record(acquireNanos, TimeUnit.NANOSECONDS);
+
+        ConnectionUsage usage = ConnectionUsage.current();
+        if (usage != null) {
+            usage.recordAcquire(acquireNanos);
+        }
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ReleaseTrackingHandler(connection, acquiredAt, usage)
+        );
+    }
+
+    private final class ReleaseTrackingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final long acquiredAt;
+        private final ConnectionUsage usage;
+        private boolean closed;
+
+        private ReleaseTrackingHandler(Connection target, long acquiredAt, ConnectionUsage usage) {
+            this.target = target;
+            this.acquiredAt = acquiredAt;
+            this.usage = usage;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        long holdNanos = System.nanoTime() - acquiredAt;
+                        holdTimer.record(holdNanos, TimeUnit.NANOSECONDS);
+                        if (usage != null) {
+                            usage.recordHold(holdNanos);
+                        }
+                    }
+                }
+                case "unwrap" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                }
+                case "isWrapperFor" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
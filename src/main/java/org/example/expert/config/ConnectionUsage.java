@@ -0,0 +1,50 @@
+package org.example.expert.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 요청 하나가 사용한 커넥션 수와 acquire/hold 시간 합계. ConnectionUsageFilter가 요청마다 새로 시작합니다.
+public class ConnectionUsage {
+
+    private static final ThreadLocal<ConnectionUsage> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong acquireNanos = new AtomicLong();
+    private final AtomicLong holdNanos = new AtomicLong();
+
+    // 요청 스레드가 아니면 null 입니다.
+    public static ConnectionUsage current() {
+        return CURRENT.get();
+    }
+
+    public static ConnectionUsage begin() {
+        ConnectionUsage usage = new ConnectionUsage();
+        CURRENT.set(usage);
+        return usage;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordAcquire(long nanos) {
+        connections.incrementAndGet();
+        acquireNanos.addAndGet(nanos);
+    }
+
+    void recordHold(long nanos) {
+        holdNanos.addAndGet(nanos);
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public long getAcquireNanos() {
+        return acquireNanos.get();
+    }
+
+    public long getHoldNanos() {
+        return holdNanos.get();
+    }
+}
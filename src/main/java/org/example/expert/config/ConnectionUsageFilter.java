@@ -0,0 +1,46 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 요청 단위로 커넥션 acquire/hold 시간 합계를 엔드포인트 태그와 함께 기록합니다.
+@RequiredArgsConstructor
+public class ConnectionUsageFilter implements Filter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        ConnectionUsage usage = ConnectionUsage.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ConnectionUsage.end();
+            if (usage.getConnections() > 0) {
+                record((HttpServletRequest) request, usage);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, ConnectionUsage usage) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        Timer.builder("db.connection.request.acquire")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(usage.getAcquireNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("db.connection.request.hold")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(usage.getHoldNanos(), TimeUnit.NANOSECONDS);
+    }
+}
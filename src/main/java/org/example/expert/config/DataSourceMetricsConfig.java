@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceMetricsConfig {
+
+    // 커넥션 풀 DataSource 빈을 감싸 커넥션 acquire/hold 시간을 기록합니다.
+    // 라우팅 모드의 지연/라우팅 프록시는 실제 커넥션을 풀에서 얻지 않으므로 건너뛰고, 그 뒤의 풀은 ReplicaRoutingConfig에서 감쌉니다.
+    @Bean
+    public static BeanPostProcessor connectionMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionMetricsDataSource)
+                        && !(bean instanceof LazyConnectionDataSourceProxy) && !(bean instanceof AbstractRoutingDataSource)) {
+                    return new ConnectionMetricsDataSource(dataSource, poolName(dataSource, beanName), meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static String poolName(DataSource dataSource, String beanName) {
+        if (dataSource instanceof HikariDataSource hikari && hikari.getPoolName() != null) {
+            return hikari.getPoolName();
+        }
+        return beanName;
+    }
+}
@@ -1,22 +1,49 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${metrics.scrape.token:}")
+    private String scrapeToken;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, verifiedTokenCache));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
     }
+
+    @Bean
+    public FilterRegistrationBean<ConnectionUsageFilter> connectionUsageFilter() {
+        FilterRegistrationBean<ConnectionUsageFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ConnectionUsageFilter(meterRegistry));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE); // 요청 전체 구간을 측정하도록 가장 먼저 실행합니다.
+
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ScrapeTokenFilter> scrapeTokenFilter() {
+        FilterRegistrationBean<ScrapeTokenFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ScrapeTokenFilter(scrapeToken));
+        registrationBean.addUrlPatterns("/actuator/*"); // 수집기 전용 경로이므로 JwtFilter 대신 수집용 토큰을 확인합니다.
+
+        return registrationBean;
+    }
 }
@@ -0,0 +1,409 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 우리 서비스가 발급하는 HS256 토큰(sub, email, userRole, exp, iat) 전용 인코더/디코더.
+// jjwt 빌더/파서와 같은 바이트를 만들고 읽되, 스레드별 Mac 과 버퍼를 재사용해 요청마다의 객체 생성을 줄입니다.
+// 형식이 다른 토큰은 decode 가 null 을 반환하므로 호출자가 jjwt 파서로 처리해야 합니다.
+public class JwtCodec {
+
+    // {"alg":"HS256"} 를 base64url 로 인코딩한 값 (jjwt 0.11 이 만드는 헤더와 동일)
+    static final String HEADER = "eyJhbGciOiJIUzI1NiJ9";
+
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final BoundedObjectPool<Buffers> buffers;
+
+    public JwtCodec(Key key) {
+        byte[] secret = key.getEncoded();
+        this.buffers = new BoundedObjectPool<>(() -> new Buffers(secret));
+    }
+
+    public String encode(Long userId, String email, UserRole userRole, long issuedAtMillis, long expiresAtMillis) {
+        Buffers buffer = buffers.acquire();
+        try {
+            return encode(buffer, userId, email, userRole, issuedAtMillis, expiresAtMillis);
+        } finally {
+            buffers.release(buffer);
+        }
+    }
+
+    private String encode(Buffers buffer, Long userId, String email, UserRole userRole, long issuedAtMillis, long expiresAtMillis) {
+        // jjwt 빌더와 같은 claim 순서: sub, email, userRole, exp, iat
+        StringBuilder json = buffer.json;
+        json.setLength(0);
+        json.append("{\"sub\":");
+        appendString(json, String.valueOf(userId));
+        if (email != null) {
+            json.append(",\"email\":");
+            appendString(json, email);
+        }
+        if (userRole != null) {
+            json.append(",\"userRole\":");
+            appendString(json, userRole.name());
+        }
+        json.append(",\"exp\":").append(expiresAtMillis / 1000);
+        json.append(",\"iat\":").append(issuedAtMillis / 1000);
+        json.append('}');
+
+        String payload = ENCODER.encodeToString(json.toString().getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder token = buffer.token;
+        token.setLength(0);
+        token.append(HEADER).append('.').append(payload);
+        byte[] signature = buffer.sign(token, token.length());
+        return token.append('.').append(ENCODER.encodeToString(signature)).toString();
+    }
+
+    // 우리 형식의 토큰이 아니면 null 을 반환합니다. 서명 불일치, 만료는 jjwt 와 같은 예외를 던집니다.
+    public VerifiedToken decode(String token, long nowMillis) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot != HEADER.length() || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0
+                || !token.startsWith(HEADER)) {
+            return null;
+        }
+
+        Buffers buffer = buffers.acquire();
+        try {
+            return decode(buffer, token, firstDot, secondDot, nowMillis);
+        } finally {
+            buffers.release(buffer);
+        }
+    }
+
+    private VerifiedToken decode(Buffers buffer, String token, int firstDot, int secondDot, long nowMillis) {
+        byte[] signature = buffer.signatureBuffer;
+        if (decodeBase64Url(token, secondDot + 1, token.length(), signature) != SIGNATURE_LENGTH) {
+            throw new MalformedJwtException("잘못된 JWT 서명 형식입니다.");
+        }
+        if (!buffer.verify(token, secondDot, signature)) {
+            throw new SignatureException("JWT signature does not match locally computed signature.");
+        }
+
+        byte[] payload = buffer.payloadBuffer(decodedLength(secondDot - firstDot - 1));
+        int payloadLength = decodeBase64Url(token, firstDot + 1, secondDot, payload);
+        if (payloadLength < 0) {
+            throw new MalformedJwtException("잘못된 JWT payload 형식입니다.");
+        }
+
+        Claims claims = ClaimsParser.parse(payload, payloadLength);
+        if (claims == null || claims.sub == null || claims.exp == null) {
+            return null;
+        }
+        if (nowMillis > claims.exp * 1000) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + claims.exp);
+        }
+
+        return new VerifiedToken(
+                Long.parseLong(claims.sub),
+                claims.email,
+                UserRole.valueOf(claims.userRole),
+                claims.exp * 1000
+        );
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\b' -> json.append("\\b");
+                case '\f' -> json.append("\\f");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static int decodedLength(int encodedLength) {
+        return encodedLength * 3 / 4 + 3;
+    }
+
+    // base64url(패딩 없음) 문자열 구간을 out 에 디코딩하고 길이를 반환합니다. 형식이 잘못되었거나 out 이 작으면 -1.
+    private static int decodeBase64Url(String source, int from, int to, byte[] out) {
+        int length = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                if (length == out.length) {
+                    return -1;
+                }
+                out[length++] = (byte) (bits >> bitCount);
+            }
+        }
+        return bitCount >= 6 ? -1 : length;
+    }
+
+    private static final class Buffers {
+
+        private final Mac mac;
+        private final StringBuilder json = new StringBuilder(128);
+        private final StringBuilder token = new StringBuilder(256);
+        private final byte[] signatureBuffer = new byte[SIGNATURE_LENGTH + 2];
+        private final byte[] computedSignature = new byte[SIGNATURE_LENGTH];
+        private byte[] signingInput = new byte[256];
+        private byte[] payload = new byte[256];
+
+        private Buffers(byte[] secret) {
+            try {
+                this.mac = Mac.getInstance("HmacSHA256");
+                this.mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 을 초기화할 수 없습니다.", e);
+            }
+        }
+
+        private byte[] sign(CharSequence input, int length) {
+            byte[] bytes = toAscii(input, length);
+            mac.update(bytes, 0, length);
+            return mac.doFinal();
+        }
+
+        private boolean verify(CharSequence input, int length, byte[] signature) {
+            byte[] bytes = toAscii(input, length);
+            if (bytes == null) {
+                return false;
+            }
+            mac.update(bytes, 0, length);
+            try {
+                mac.doFinal(computedSignature, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
+
+            // 상수 시간 비교
+            int diff = 0;
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                diff |= computedSignature[i] ^ signature[i];
+            }
+            return diff == 0;
+        }
+
+        // 헤더와 payload 는 base64url 문자만 담고 있으므로 문자 하나가 곧 바이트 하나입니다.
+        private byte[] toAscii(CharSequence input, int length) {
+            if (signingInput.length < length) {
+                signingInput = new byte[Math.max(length, signingInput.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = input.charAt(i);
+                if (c >= 128) {
+                    return null;
+                }
+                signingInput[i] = (byte) c;
+            }
+            return signingInput;
+        }
+
+        private byte[] payloadBuffer(int length) {
+            if (payload.length < length) {
+                payload = new byte[Math.max(length, payload.length * 2)];
+            }
+            return payload;
+        }
+    }
+
+    private static final class Claims {
+        private String sub;
+        private String email;
+        private String userRole;
+        private Long exp;
+    }
+
+    // 문자열/숫자 값만 갖는 평평한 JSON 객체를 읽습니다. 알 수 없는 claim 이나 다른 형태가 나오면 null.
+    private static final class ClaimsParser {
+
+        private final byte[] json;
+        private final int length;
+        private int position;
+
+        private ClaimsParser(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+        }
+
+        static Claims parse(byte[] json, int length) {
+            try {
+                return new ClaimsParser(json, length).parseObject();
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new MalformedJwtException("잘못된 JWT claims 형식입니다.", e);
+            }
+        }
+
+        private Claims parseObject() {
+            Claims claims = new Claims();
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                return finish(claims);
+            }
+
+            while (true) {
+                skipWhitespace();
+                String name = readString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+
+                switch (name) {
+                    case "sub" -> claims.sub = readString();
+                    case "email" -> claims.email = readString();
+                    case "userRole" -> claims.userRole = readString();
+                    case "exp" -> claims.exp = readLong();
+                    case "iat" -> readLong();
+                    default -> {
+                        return null;
+                    }
+                }
+
+                skipWhitespace();
+                byte next = next();
+                if (next == '}') {
+                    return finish(claims);
+                }
+                if (next != ',') {
+                    throw new IllegalArgumentException("unexpected character");
+                }
+            }
+        }
+
+        private Claims finish(Claims claims) {
+            skipWhitespace();
+            if (position != length) {
+                throw new IllegalArgumentException("trailing characters");
+            }
+            return claims;
+        }
+
+        private String readString() {
+            expect('"');
+            int start = position;
+            boolean escaped = false;
+            while (at(position) != '"') {
+                if (at(position) == '\\') {
+                    escaped = true;
+                    position++;
+                }
+                position++;
+            }
+            int end = position++;
+            if (!escaped) {
+                return new String(json, start, end - start, StandardCharsets.UTF_8);
+            }
+            return unescape(new String(json, start, end - start, StandardCharsets.UTF_8));
+        }
+
+        private long readLong() {
+            int start = position;
+            if (peek() == '-') {
+                position++;
+            }
+            while (position < length && json[position] >= '0' && json[position] <= '9') {
+                position++;
+            }
+            if (position == start || (position < length && (json[position] == '.' || json[position] == 'e' || json[position] == 'E'))) {
+                throw new IllegalArgumentException("not an integer");
+            }
+            return Long.parseLong(new String(json, start, position - start, StandardCharsets.US_ASCII));
+        }
+
+        private static String unescape(String value) {
+            StringBuilder result = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c != '\\') {
+                    result.append(c);
+                    continue;
+                }
+                char escape = value.charAt(++i);
+                switch (escape) {
+                    case '"', '\\', '/' -> result.append(escape);
+                    case 'b' -> result.append('\b');
+                    case 'f' -> result.append('\f');
+                    case 'n' -> result.append('\n');
+                    case 'r' -> result.append('\r');
+                    case 't' -> result.append('\t');
+                    case 'u' -> {
+                        result.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                        i += 4;
+                    }
+                    default -> throw new IllegalArgumentException("invalid escape");
+                }
+            }
+            return result.toString();
+        }
+
+        private byte peek() {
+            return at(position);
+        }
+
+        private byte next() {
+            return at(position++);
+        }
+
+        // 버퍼를 재사용하므로 payload 길이를 넘는 위치는 읽지 않습니다.
+        private byte at(int index) {
+            if (index >= length) {
+                throw new IllegalArgumentException("unexpected end of claims");
+            }
+            return json[index];
+        }
+
+        private void expect(char c) {
+            if (next() != c) {
+                throw new IllegalArgumentException("expected " + c);
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < length && (json[position] == ' ' || json[position] == '\t'
+                    || json[position] == '\n' || json[position] == '\r')) {
+                position++;
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -19,6 +18,7 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -32,7 +32,8 @@ public class JwtFilter implements Filter {
 
         String url = httpRequest.getRequestURI();
 
-        if (url.startsWith("/auth")) {
+        // /actuator 는 ScrapeTokenFilter가 수집용 토큰으로 확인합니다.
+        if (url.startsWith("/auth") || url.startsWith("/actuator")) {
             chain.doFilter(request, response);
             return;
         }
@@ -48,19 +49,14 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
-            }
+            // JWT 유효성 검사와 claims 추출 (이미 검증한 토큰은 캐시에서 바로 꺼냅니다)
+            VerifiedToken verifiedToken = verifiedTokenCache.getOrVerify(jwt, jwtUtil::verifyToken);
 
-            Long userId = Long.parseLong(claims.getSubject());
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            UserRole userRole = verifiedToken.getUserRole();
 
-            httpRequest.setAttribute("userId", userId);
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute("userId", verifiedToken.getUserId());
+            httpRequest.setAttribute("email", verifiedToken.getEmail());
+            httpRequest.setAttribute("userRole", userRole.name());
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
@@ -2,7 +2,6 @@ package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +13,6 @@ import org.springframework.util.StringUtils;
 
 import java.security.Key;
 import java.util.Base64;
-import java.util.Date;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -26,26 +24,19 @@ public class JwtUtil {
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private JwtCodec jwtCodec;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtCodec = new JwtCodec(key);
     }
 
+    // jjwt 빌더(HS256)와 바이트 단위로 같은 토큰을 JwtCodec 으로 만듭니다.
     public String createToken(Long userId, String email, UserRole userRole) {
-        Date date = new Date();
-
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
-                        .claim("email", email)
-                        .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
+        long now = System.currentTimeMillis();
+        return BEARER_PREFIX + jwtCodec.encode(userId, email, userRole, now, now + TOKEN_TIME);
     }
 
     public String substringToken(String tokenValue) {
@@ -62,4 +53,20 @@ public class JwtUtil {
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    public VerifiedToken verifyToken(String token) {
+        VerifiedToken verifiedToken = jwtCodec.decode(token, System.currentTimeMillis());
+        if (verifiedToken != null) {
+            return verifiedToken;
+        }
+
+        // 우리 형식이 아닌 토큰은 jjwt 파서로 검증합니다.
+        Claims claims = extractClaims(token);
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class)),
+                claims.getExpiration().getTime()
+        );
+    }
 }
@@ -0,0 +1,22 @@
+package org.example.expert.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+// 메서드별 실행 시간을 /actuator/latency 로 노출합니다.
+// 사용자 JWT 대신 수집용 토큰(ScrapeTokenFilter)으로 접근하므로 수집기가 재로그인할 필요가 없고, 관리자 감사 기록도 남지 않습니다.
+@Component
+@WebEndpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+    private final LatencyHistograms latencyHistograms;
+
+    // Prometheus 등 수집기가 그대로 긁어갈 수 있는 텍스트 형식으로 응답합니다.
+    @ReadOperation(produces = "text/plain;version=0.0.4;charset=utf-8")
+    public String scrape() {
+        return latencyHistograms.scrape();
+    }
+}
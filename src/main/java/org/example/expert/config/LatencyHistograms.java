@@ -0,0 +1,170 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 컨트롤러/서비스/리포지토리 메서드별 실행 시간을 HdrHistogram Recorder에 기록합니다.
+// 기록은 wait-free이고, 분위수는 마지막으로 닫힌 구간(window-ms) 기준, 횟수와 합계는 기동 이후 누적입니다.
+@Component
+public class LatencyHistograms {
+
+    static final String METRIC = "app_method_latency_seconds";
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    // 같은 메서드라도 프록시 클래스마다 이름을 한 번만 계산하도록 (프록시 클래스, 메서드) 순으로 캐시합니다.
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, MethodLatency>> byType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, MethodLatency> byName = new ConcurrentHashMap<>();
+
+    public MethodLatency get(String layer, Object target, Method method) {
+        ConcurrentMap<Method, MethodLatency> byMethod = byType.get(target.getClass());
+        if (byMethod == null) {
+            byMethod = byType.computeIfAbsent(target.getClass(), type -> new ConcurrentHashMap<>());
+        }
+        MethodLatency latency = byMethod.get(method);
+        if (latency == null) {
+            latency = byMethod.computeIfAbsent(method, key -> register(layer, typeName(target), key.getName()));
+        }
+        return latency;
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.latency.window-ms:60000}")
+    public void rotate() {
+        byName.values().forEach(MethodLatency::rotate);
+    }
+
+    // Prometheus 텍스트 형식(0.0.4)의 summary로 출력합니다.
+    public String scrape() {
+        List<MethodLatency> latencies = byName.values().stream()
+                .sorted(Comparator.comparing(MethodLatency::getLayer)
+                        .thenComparing(MethodLatency::getType)
+                        .thenComparing(MethodLatency::getMethod))
+                .toList();
+
+        StringBuilder out = new StringBuilder(256 + latencies.size() * 512);
+        out.append("# HELP ").append(METRIC).append(" Method execution time. Quantiles cover the last closed window.\n");
+        out.append("# TYPE ").append(METRIC).append(" summary\n");
+        for (MethodLatency latency : latencies) {
+            Histogram window = latency.window;
+            for (double quantile : QUANTILES) {
+                out.append(METRIC);
+                latency.appendLabels(out, quantile);
+                out.append(' ');
+                if (window == null || window.getTotalCount() == 0) {
+                    out.append("NaN");
+                } else {
+                    out.append(window.getValueAtPercentile(quantile * 100) / NANOS_PER_SECOND);
+                }
+                out.append('\n');
+            }
+            out.append(METRIC).append("_sum");
+            latency.appendLabels(out, -1);
+            out.append(' ').append(latency.totalNanos.sum() / NANOS_PER_SECOND).append('\n');
+            out.append(METRIC).append("_count");
+            latency.appendLabels(out, -1);
+            out.append(' ').append(latency.count.sum()).append('\n');
+        }
+
+        out.append("# HELP app_method_latency_max_seconds Longest method execution in the last closed window.\n");
+        out.append("# TYPE app_method_latency_max_seconds gauge\n");
+        for (MethodLatency latency : latencies) {
+            Histogram window = latency.window;
+            out.append("app_method_latency_max_seconds");
+            latency.appendLabels(out, -1);
+            out.append(' ').append(window == null ? 0.0 : window.getMaxValue() / NANOS_PER_SECOND).append('\n');
+        }
+        return out.toString();
+    }
+
+    private MethodLatency register(String layer, String type, String method) {
+        return byName.computeIfAbsent(layer + '|' + type + '|' + method, key -> new MethodLatency(layer, type, method));
+    }
+
+    // 리포지토리는 JDK 프록시라 구현 클래스(SimpleJpaRepository) 대신 애플리케이션 인터페이스 이름을 사용합니다.
+    private static String typeName(Object target) {
+        if (Proxy.isProxyClass(target.getClass())) {
+            for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(target)) {
+                if (type.getName().startsWith("org.example.expert")) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(target).getSimpleName();
+    }
+
+    private static void appendLabelValue(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    public static final class MethodLatency {
+
+        @Getter
+        private final String layer;
+        @Getter
+        private final String type;
+        @Getter
+        private final String method;
+
+        private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        // 마지막으로 닫힌 구간의 히스토그램 (첫 회전 전에는 null)
+        private volatile Histogram window;
+
+        private MethodLatency(String layer, String type, String method) {
+            this.layer = layer;
+            this.type = type;
+            this.method = method;
+        }
+
+        public void record(long nanos) {
+            // 범위를 벗어난 값은 예외 대신 경계값으로 기록합니다.
+            recorder.recordValue(Math.min(Math.max(nanos, 1), HIGHEST_TRACKABLE_NANOS));
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        private void rotate() {
+            window = recorder.getIntervalHistogram();
+        }
+
+        private void appendLabels(StringBuilder out, double quantile) {
+            out.append("{layer=\"");
+            appendLabelValue(out, layer);
+            out.append("\",class=\"");
+            appendLabelValue(out, type);
+            out.append("\",method=\"");
+            appendLabelValue(out, method);
+            if (quantile >= 0) {
+                out.append("\",quantile=\"").append(quantile);
+            }
+            out.append("\"}");
+        }
+    }
+}
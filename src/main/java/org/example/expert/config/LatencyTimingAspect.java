@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.config.LatencyHistograms.MethodLatency;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 가장 바깥에서 실행되도록 해 트랜잭션 시작/커밋 시간까지 서비스 메서드 시간에 포함합니다.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class LatencyTimingAspect {
+
+    private final LatencyHistograms latencyHistograms;
+
+    // @within은 호출마다 런타임 검사가 붙으므로, 프록시 생성 시점에 판정이 끝나는 타입 패턴만 사용합니다.
+    @Pointcut("within(@org.springframework.web.bind.annotation.RestController org.example.expert..*)")
+    private void controller() {
+    }
+
+    @Pointcut("within(@org.springframework.stereotype.Service org.example.expert..*)")
+    private void service() {
+    }
+
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
+    private void repository() {
+    }
+
+    @Around("controller()")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller");
+    }
+
+    @Around("service()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    @Around("repository()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        MethodLatency latency = latencyHistograms.get(
+                layer, joinPoint.getThis(), ((MethodSignature) joinPoint.getSignature()).getMethod());
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+}
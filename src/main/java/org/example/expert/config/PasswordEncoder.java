@@ -1,17 +1,101 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final int cost;
+
+    @Autowired
+    public PasswordEncoder(
+            PasswordHashExecutor passwordHashExecutor,
+            @Value("${password.hash.cost:0}") int cost,
+            @Value("${password.hash.target-ms:50}") long targetMs,
+            @Value("${password.hash.max-cost:12}") int maxCost
+    ) {
+        this.passwordHashExecutor = passwordHashExecutor;
+        // cost가 0이면 기동 시 현재 장비에서 목표 시간 안에 끝나는 가장 높은 cost를 측정해 사용합니다.
+        this.cost = cost > 0 ? cost : calibrateCost(targetMs, maxCost);
+        log.info("bcrypt cost {} 를 사용합니다.", this.cost);
+    }
+
+    public PasswordEncoder(PasswordHashExecutor passwordHashExecutor, int cost) {
+        this(passwordHashExecutor, cost, 0, cost);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return passwordHashExecutor.execute(
+                () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray())
+        );
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return passwordHashExecutor.execute(() -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    // 저장된 해시의 cost가 현재 cost와 다르면 다시 해시해야 합니다.
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) != cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    // "$2a$10$..." 형식에서 cost를 읽습니다. 형식이 다르면 -1을 반환합니다.
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    // bcrypt는 cost가 1 오를 때마다 시간이 두 배가 되므로, 목표 시간을 넘기 직전의 cost를 고릅니다.
+    static int calibrateCost(long targetMs, int maxCost) {
+        int selected = BCrypt.MIN_COST;
+        for (int candidate = BCrypt.MIN_COST; candidate <= maxCost; candidate++) {
+            long elapsedMs = measure(candidate);
+            if (elapsedMs > targetMs) {
+                break;
+            }
+            selected = candidate;
+            // 다음 cost는 약 두 배가 걸리므로 목표를 넘길 것이 확실하면 측정하지 않습니다.
+            if (elapsedMs * 2 > targetMs) {
+                break;
+            }
+        }
+        return selected;
+    }
+
+    private static long measure(int cost) {
+        char[] password = CALIBRATION_PASSWORD.toCharArray();
+        // 첫 호출은 JIT 워밍업 영향이 커서 두 번 측정한 값 중 작은 값을 사용합니다.
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(cost, password);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(best);
     }
 }
@@ -0,0 +1,97 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// datasource.routing.enabled=true 이면 spring.datasource.* 를 primary로, datasource.routing.replicas[n].* 를 replica로 사용합니다.
+// 서비스의 @Transactional(readOnly = true) 조회는 replica로, 그 외 트랜잭션과 트랜잭션 밖의 호출은 primary로 갑니다.
+// 풀 설정은 Boot 기본 DataSource와 같이 spring.datasource.hikari.* 를 따르고, replica는 이를 물려받은 뒤
+// datasource.routing.replicas[n].hikari.* 로 덮어씁니다.
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 ReplicaRoutingProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        register(primary, ReplicaRoutingDataSource.PRIMARY, meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReplicaRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            // primary의 풀 이름까지 물려받으면 hikaricp_* 지표가 섞이므로 비워두고 replica-n 으로 정합니다.
+            pool.setPoolName(null);
+            binder.bind("datasource.routing.replicas[" + i + "].hikari", Bindable.ofInstance(pool));
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            if (replica.getMaxPoolSize() != null) {
+                pool.setMaximumPoolSize(replica.getMaxPoolSize());
+            }
+            pool.setReadOnly(true);
+            String name = "replica-" + i;
+            register(pool, name, meterRegistry);
+            replicas.put(name, new ConnectionMetricsDataSource(pool, pool.getPoolName(), meterRegistry));
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(
+                new ConnectionMetricsDataSource(primary, primary.getPoolName(), meterRegistry),
+                replicas, meterRegistry,
+                properties.getLagQuery(), properties.getMaxLagSeconds(), properties.getHealthCheckTimeoutSeconds());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicas();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    List<HikariDataSource> getPools() {
+        return pools;
+    }
+
+    // 풀마다 hikaricp_* 지표를 pool 태그(설정한 pool-name, 없으면 primary, replica-n)로 따로 남깁니다.
+    private void register(HikariDataSource pool, String name, MeterRegistry meterRegistry) {
+        if (pool.getPoolName() == null) {
+            pool.setPoolName(name);
+        }
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pools.add(pool);
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션은 사용 가능한 replica 중 하나로(라운드 로빈), 나머지는 primary로 보냅니다.
+// 트랜잭션의 읽기 전용 여부는 커넥션을 실제로 얻는 시점에 결정되므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final int healthCheckTimeoutSeconds;
+
+    private final Counter primaryCounter;
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicaDataSources,
+            MeterRegistry meterRegistry,
+            String lagQuery,
+            long maxLagSeconds,
+            int healthCheckTimeoutSeconds
+    ) {
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+        this.primaryCounter = meterRegistry.counter("db.routing", "target", PRIMARY);
+        this.fallbackCounter = meterRegistry.counter("db.routing.fallback");
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaDataSources.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource, meterRegistry.counter("db.routing", "target", name));
+            replicas.add(replica);
+            targets.put(name, dataSource);
+            meterRegistry.gauge("db.replica.available", Tags.of("target", name), replica, r -> r.available ? 1 : 0);
+            meterRegistry.gauge("db.replica.lag", Tags.of("target", name), replica, r -> r.lagSeconds);
+        });
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        // 알 수 없는 키로 조용히 primary에 가지 않도록 합니다.
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCounter.increment();
+            return PRIMARY;
+        }
+
+        int size = replicas.size();
+        int start = nextReplica.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, size));
+            if (replica.available) {
+                replica.routedCounter.increment();
+                return replica.name;
+            }
+        }
+
+        // 사용 가능한 replica가 없으면 읽기도 primary에서 처리합니다.
+        if (size > 0) {
+            fallbackCounter.increment();
+        }
+        primaryCounter.increment();
+        return PRIMARY;
+    }
+
+    // 응답하지 않거나 복제 지연이 한도를 넘은 replica는 다음 확인 때까지 라우팅 대상에서 제외합니다.
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.available;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(healthCheckTimeoutSeconds)) {
+                    replica.available = false;
+                } else if (lagQuery == null || lagQuery.isBlank()) {
+                    replica.available = true;
+                } else {
+                    long lag = queryLagSeconds(connection);
+                    replica.lagSeconds = lag;
+                    replica.available = lag >= 0 && lag <= maxLagSeconds;
+                }
+            } catch (SQLException e) {
+                replica.available = false;
+                if (wasAvailable) {
+                    log.warn("replica 상태 확인에 실패했습니다. target={}", replica.name, e);
+                }
+            }
+
+            if (wasAvailable != replica.available) {
+                log.warn("replica 라우팅 상태 변경: target={}, available={}, lag={}s",
+                        replica.name, replica.available, replica.lagSeconds);
+            }
+        }
+    }
+
+    boolean isAvailable(String name) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(name) && replica.available);
+    }
+
+    // 복제가 멈춰 지연을 알 수 없으면(NULL, 빈 결과) -1을 돌려 사용 불가로 처리합니다.
+    private long queryLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(healthCheckTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return -1;
+                }
+                long lag = resultSet.getLong(1);
+                return resultSet.wasNull() ? -1 : lag;
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter routedCounter;
+        private volatile boolean available = true;
+        private volatile long lagSeconds;
+
+        private Replica(String name, DataSource dataSource, Counter routedCounter) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.routedCounter = routedCounter;
+        }
+    }
+}
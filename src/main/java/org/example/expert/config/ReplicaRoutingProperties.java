@@ -0,0 +1,42 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기 전용 트랜잭션을 replica로 보내는 라우팅 설정입니다. primary는 spring.datasource.* 를 그대로 사용합니다.
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 상태 확인: 주기마다 각 replica에 커넥션 유효성 검사와 (설정 시) 복제 지연 조회를 실행합니다.
+    private long healthCheckIntervalMs = 5_000;
+    private int healthCheckTimeoutSeconds = 2;
+
+    // 복제 지연(초)을 숫자 하나로 돌려주는 쿼리. 비워두면 지연은 확인하지 않습니다.
+    // 예) MySQL: SELECT TIMESTAMPDIFF(SECOND, MAX(ts), NOW()) FROM heartbeat
+    private String lagQuery;
+    private long maxLagSeconds = 5;
+
+    // 나머지 풀 설정은 spring.datasource.hikari.* 를 물려받고, replicas[n].hikari.* 로 replica마다 덮어쓸 수 있습니다.
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        // 비워두면 spring.datasource.hikari.maximum-pool-size 를 따릅니다.
+        private Integer maxPoolSize;
+    }
+}
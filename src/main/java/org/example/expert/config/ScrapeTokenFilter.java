@@ -0,0 +1,56 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// /actuator/* 는 사용자 JWT가 아니라 설정된 수집용 토큰(metrics.scrape.token)으로만 접근할 수 있습니다.
+// 토큰이 설정되지 않았으면 모든 요청을 거절합니다.
+// 단, 로드 밸런서/k8s 프로브는 토큰을 보낼 수 없으므로 /actuator/health(및 liveness/readiness 하위 경로)는 토큰 없이 통과시킵니다.
+public class ScrapeTokenFilter implements Filter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String HEALTH_PATH = "/actuator/health";
+
+    private final byte[] token;
+
+    public ScrapeTokenFilter(String token) {
+        this.token = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        String url = httpRequest.getRequestURI();
+        if (url.equals(HEALTH_PATH) || url.startsWith(HEALTH_PATH + "/")) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (token == null) {
+            httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "수집용 토큰이 설정되지 않았습니다.");
+            return;
+        }
+
+        String authorization = httpRequest.getHeader("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "수집용 토큰이 필요합니다.");
+            return;
+        }
+
+        // 응답 시간으로 토큰을 추측하지 못하도록 고정 시간 비교를 사용합니다.
+        byte[] presented = authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(token, presented)) {
+            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 수집용 토큰입니다.");
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+}
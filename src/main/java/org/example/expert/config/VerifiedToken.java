@@ -0,0 +1,25 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+// 서명 검증을 마친 JWT에서 꺼낸 사용자 정보와 만료 시각
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String email;
+    private final UserRole userRole;
+    private final long expiresAtMillis;
+
+    public VerifiedToken(Long userId, String email, UserRole userRole, long expiresAtMillis) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// 한 번 검증한 토큰을 만료 시각까지 보관해, 같은 토큰의 서명 검증과 claims 파싱을 반복하지 않습니다.
+// 토큰 원문 대신 SHA-256 다이제스트를 키로 사용합니다.
+// 최대 크기에 닿으면 가장 오래 쓰이지 않은 토큰을 내보내고 새 토큰을 넣습니다(LRU). 조회도 순서를 바꾸므로
+// 키 해시로 나눈 구역마다 따로 잠가 경합을 줄입니다.
+@Component
+public class VerifiedTokenCache {
+
+    private static final BoundedObjectPool<MessageDigest> SHA_256 = new BoundedObjectPool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // 구역 하나에 최소 이만큼은 담기도록 구역 수를 정합니다. (작은 캐시는 구역 하나로 정확한 LRU)
+    private static final int MIN_SEGMENT_SIZE = 256;
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer verificationTimer;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize, MeterRegistry meterRegistry) {
+        int segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // 나머지는 앞쪽 구역에 하나씩 더 나눠, 구역 용량의 합이 maxSize가 되도록 합니다.
+            segments[i] = new Segment(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0));
+        }
+        this.hitCounter = meterRegistry.counter("jwt.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.cache", "result", "miss");
+        this.verificationTimer = meterRegistry.timer("jwt.verification");
+        meterRegistry.gauge("jwt.cache.size", this, VerifiedTokenCache::size);
+    }
+
+    // 캐시에 없으면 verifier로 검증해 넣습니다. 다이제스트는 조회와 저장에 한 번만 계산합니다.
+    // verifier가 던진 예외(서명 오류, 만료 등)는 그대로 전달되며 캐시에 남지 않습니다.
+    public VerifiedToken getOrVerify(String token, Function<String, VerifiedToken> verifier) {
+        String key = digest(token);
+        VerifiedToken verified = lookup(key);
+        if (verified != null) {
+            return verified;
+        }
+        long start = System.nanoTime();
+        verified = verifier.apply(token);
+        recordVerification(System.nanoTime() - start);
+        store(key, verified);
+        return verified;
+    }
+
+    public VerifiedToken get(String token) {
+        return lookup(digest(token));
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        store(digest(token), verified);
+    }
+
+    public void recordVerification(long nanos) {
+        verificationTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private VerifiedToken lookup(String key) {
+        Segment segment = segmentFor(key);
+        VerifiedToken verified;
+        segment.lock.lock();
+        try {
+            verified = segment.get(key);
+            if (verified != null && verified.isExpired(System.currentTimeMillis())) {
+                segment.remove(key);
+                verified = null;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+
+        if (verified == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return verified;
+    }
+
+    private void store(String key, VerifiedToken verified) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.put(key, verified);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private Segment segmentFor(String key) {
+        return segments[Math.floorMod(key.hashCode(), segments.length)];
+    }
+
+    private String digest(String token) {
+        MessageDigest digest = SHA_256.acquire();
+        try {
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+
+    // 접근 순서로 정렬된 LinkedHashMap: 용량을 넘으면 가장 오래 쓰이지 않은 항목을 O(1)로 내보냅니다.
+    private static final class Segment extends LinkedHashMap<String, VerifiedToken> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.service.AdminAuditService;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.user.annotation.AdminAccess;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminAuditController {
+
+    private final AdminAuditService adminAuditService;
+
+    // 최근 기록부터 반환합니다. 아직 버퍼에 있는 기록은 다음 flush 이후에 보입니다.
+    @AdminAccess
+    @GetMapping("/admin/audits")
+    public ResponseEntity<CursorResponse<AdminAuditResponse>> getAudits(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(adminAuditService.getAudits(cursor, size));
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminAuditResponse {
+
+    private final Long id;
+    private final Long userId;
+    private final String httpMethod;
+    private final String requestUri;
+    private final String handler;
+    private final boolean succeeded;
+    private final LocalDateTime accessedAt;
+
+    // JPQL 생성자 표현식용
+    public AdminAuditResponse(Long id, Long userId, String httpMethod, String requestUri, String handler, boolean succeeded, LocalDateTime accessedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.httpMethod = httpMethod;
+        this.requestUri = requestUri;
+        this.handler = handler;
+        this.succeeded = succeeded;
+        this.accessedAt = accessedAt;
+    }
+}
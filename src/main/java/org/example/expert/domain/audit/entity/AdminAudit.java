@@ -0,0 +1,28 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 관리자 API 호출 기록. 행은 AdminAuditRecorder가 JDBC 배치로 넣고, 엔티티는 테이블 정의와 조회에만 사용합니다.
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "admin_audit", indexes = @Index(name = "idx_admin_audit_accessed_at_id", columnList = "accessed_at, id"))
+public class AdminAudit {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long userId;
+    @Column(nullable = false)
+    private String httpMethod;
+    @Column(nullable = false)
+    private String requestUri;
+    @Column(nullable = false)
+    private String handler;
+    private boolean succeeded;
+    @Column(nullable = false)
+    private LocalDateTime accessedAt;
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.entity.AdminAudit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AdminAuditRepository extends JpaRepository<AdminAudit, Long> {
+
+    // (accessed_at, id) 인덱스를 역순으로 따라 최근 기록부터 한 페이지씩 읽습니다.
+    @Query("SELECT new org.example.expert.domain.audit.dto.response.AdminAuditResponse(a.id, a.userId, a.httpMethod, a.requestUri, a.handler, a.succeeded, a.accessedAt) " +
+            "FROM AdminAudit a ORDER BY a.accessedAt DESC, a.id DESC")
+    List<AdminAuditResponse> findFirstSlice(Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.audit.dto.response.AdminAuditResponse(a.id, a.userId, a.httpMethod, a.requestUri, a.handler, a.succeeded, a.accessedAt) " +
+            "FROM AdminAudit a " +
+            "WHERE a.accessedAt < :accessedAt OR (a.accessedAt = :accessedAt AND a.id < :id) " +
+            "ORDER BY a.accessedAt DESC, a.id DESC")
+    List<AdminAuditResponse> findSliceBefore(@Param("accessedAt") LocalDateTime accessedAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+}
@@ -0,0 +1,170 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// 관리자 API 호출 기록을 고정 크기 링 버퍼에 모았다가 백그라운드에서 admin_audit 테이블에 JDBC 배치로 씁니다.
+// 요청 스레드는 버퍼에 넣기만 하고 기다리지 않으며, 버퍼가 가득 차면 기록을 버리고 dropped 카운터를 올립니다.
+// 배치가 실패하면 한 건씩 다시 써서 잘못된 기록 한 건 때문에 나머지를 잃지 않도록 합니다.
+@Slf4j
+@Component
+public class AdminAuditRecorder {
+
+    private static final String INSERT_AUDIT = "INSERT INTO admin_audit (user_id, http_method, request_uri, handler, succeeded, accessed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    // admin_audit 문자열 컬럼 길이(VARCHAR(255))입니다. 넘치는 값은 잘라서 저장합니다.
+    static final int COLUMN_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final int maxBatchesPerFlush;
+    private final int maxAttempts;
+
+    private final BlockingQueue<AdminAuditEvent> queue;
+
+    private final Counter recordedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private record AdminAuditEvent(Long userId, String httpMethod, String requestUri, String handler,
+                                   boolean succeeded, LocalDateTime accessedAt, int attempts) {
+
+        AdminAuditEvent retried() {
+            return new AdminAuditEvent(userId, httpMethod, requestUri, handler, succeeded, accessedAt, attempts + 1);
+        }
+    }
+
+    public AdminAuditRecorder(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${admin.audit.queue-capacity:8192}") int queueCapacity,
+            @Value("${admin.audit.batch-size:500}") int batchSize,
+            @Value("${admin.audit.max-batches-per-flush:20}") int maxBatchesPerFlush,
+            @Value("${admin.audit.max-attempts:5}") int maxAttempts
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerFlush = maxBatchesPerFlush;
+        this.maxAttempts = maxAttempts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.recordedCounter = meterRegistry.counter("admin.audit", "result", "recorded");
+        this.droppedCounter = meterRegistry.counter("admin.audit", "result", "dropped");
+        this.writtenCounter = meterRegistry.counter("admin.audit", "result", "written");
+        this.failedCounter = meterRegistry.counter("admin.audit", "result", "failed");
+        meterRegistry.gauge("admin.audit.backlog", queue, BlockingQueue::size);
+    }
+
+    // 요청 스레드에서 호출됩니다. 버퍼가 가득 차도 기다리지 않습니다.
+    public void record(Long userId, String httpMethod, String requestUri, String handler, boolean succeeded) {
+        AdminAuditEvent event = new AdminAuditEvent(userId, truncate(httpMethod), truncate(requestUri), truncate(handler),
+                succeeded, LocalDateTime.now(), 0);
+        if (queue.offer(event)) {
+            recordedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    // 공유 스케줄러 스레드를 오래 붙잡지 않도록 한 번 깨어날 때 최대 max-batches-per-flush 배치까지만 씁니다.
+    // 남은 기록은 다음 주기에 이어서 씁니다.
+    @Scheduled(fixedDelayString = "${admin.audit.flush-interval-ms:1000}")
+    public void flush() {
+        flush(maxBatchesPerFlush);
+    }
+
+    // 종료 시 버퍼에 남은 기록을 모두 씁니다. JdbcTemplate보다 먼저 소멸되므로 커넥션을 쓸 수 있습니다.
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush(Integer.MAX_VALUE);
+    }
+
+    int getBacklog() {
+        return queue.size();
+    }
+
+    private void flush(int maxBatches) {
+        List<AdminAuditEvent> batch = new ArrayList<>(batchSize);
+        for (int written = 0; written < maxBatches && queue.drainTo(batch, batchSize) > 0; written++) {
+            boolean available = write(batch);
+            batch.clear();
+            if (!available) {
+                // DB를 쓸 수 없으면 다시 넣은 기록을 이번 주기에 또 시도하지 않고 다음 주기로 미룹니다.
+                return;
+            }
+        }
+    }
+
+    // DB를 쓸 수 없어 남은 기록을 버퍼에 다시 넣었으면 false를 반환합니다.
+    private boolean write(List<AdminAuditEvent> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (AdminAuditEvent event : batch) {
+            rows.add(toRow(event));
+        }
+        try {
+            // 드라이버에 따라 실패한 배치의 일부 행이 이미 저장될 수 있으므로, 한 트랜잭션으로 묶어 전부 되돌린 뒤 한 건씩 다시 씁니다.
+            batchTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_AUDIT, rows));
+            writtenCounter.increment(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("관리자 감사 기록 배치 저장에 실패해 한 건씩 다시 저장합니다. count={}", batch.size(), e);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            AdminAuditEvent event = batch.get(i);
+            try {
+                jdbcTemplate.update(INSERT_AUDIT, rows.get(i));
+                writtenCounter.increment();
+            } catch (DataIntegrityViolationException e) {
+                // 이 기록만의 문제이므로 다시 시도해도 성공하지 않습니다. 버리고 나머지를 계속 씁니다.
+                log.warn("관리자 감사 기록을 저장할 수 없어 버립니다. event={}", event, e);
+                failedCounter.increment();
+            } catch (RuntimeException e) {
+                // 연결 실패 등 DB 쪽 문제로 보고 남은 기록을 버퍼에 다시 넣어 다음 주기에 시도합니다.
+                log.warn("관리자 감사 기록 저장에 실패해 다음 주기에 다시 시도합니다. count={}", batch.size() - i, e);
+                requeue(batch.subList(i, batch.size()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void requeue(List<AdminAuditEvent> events) {
+        for (AdminAuditEvent event : events) {
+            AdminAuditEvent retried = event.retried();
+            if (retried.attempts() >= maxAttempts || !queue.offer(retried)) {
+                failedCounter.increment();
+            }
+        }
+    }
+
+    private static Object[] toRow(AdminAuditEvent event) {
+        return new Object[]{event.userId(), event.httpMethod(), event.requestUri(), event.handler(),
+                event.succeeded(), Timestamp.valueOf(event.accessedAt())};
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > COLUMN_LENGTH ? value.substring(0, COLUMN_LENGTH) : value;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditResponse;
+import org.example.expert.domain.audit.repository.AdminAuditRepository;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdminAuditService {
+
+    private final AdminAuditRepository adminAuditRepository;
+
+    @Value("${admin.audit.page.max-size:100}")
+    private int maxPageSize;
+
+    public CursorResponse<AdminAuditResponse> getAudits(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 읽습니다.
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<AdminAuditResponse> auditList;
+        if (cursor == null || cursor.isBlank()) {
+            auditList = adminAuditRepository.findFirstSlice(pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            auditList = adminAuditRepository.findSliceBefore(position.getTimestamp(), position.getId(), pageable);
+        }
+
+        String nextCursor = null;
+        if (auditList.size() > pageSize) {
+            auditList = auditList.subList(0, pageSize);
+            AdminAuditResponse last = auditList.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getAccessedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(auditList, nextCursor);
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
@@ -22,8 +23,10 @@ public class AuthController {
         return authService.signup(signupRequest);
     }
 
+    // 접속 주소별 로그인 제한에 쓰는 주소입니다. 프록시/로드 밸런서 뒤에서는 server.forward-headers-strategy=native 로
+    // 신뢰하는 프록시가 보낸 X-Forwarded-For만 반영된 주소가 들어옵니다. (application.properties 참고)
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
-        return authService.signin(signinRequest);
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        return authService.signin(signinRequest, request.getRemoteAddr());
     }
 }
@@ -12,7 +12,9 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.StoredPasswordCosts;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -23,8 +25,13 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordRehasher passwordRehasher;
+    private final SigninThrottle signinThrottle;
+    private final StoredPasswordCosts storedPasswordCosts;
 
-    @Transactional
+    // bcrypt 해시는 해시 풀에서 기다리는 시간까지 길어질 수 있으므로 트랜잭션(커넥션) 밖에서 수행하고,
+    // 중복 확인과 저장은 각각 repository 트랜잭션에서만 짧게 실행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if(signupRequest.getEmail() == null || signupRequest.getEmail().trim().isEmpty()) {
@@ -45,13 +52,19 @@ public class AuthService {
                 userRole
         );
         User savedUser = userRepository.save(newUser);
+        storedPasswordCosts.added(encodedPassword);
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
         return new SignupResponse(bearerToken);
     }
 
-    public SigninResponse signin(SigninRequest signinRequest) {
+    // 사용자 조회만 repository의 읽기 전용 트랜잭션에서 실행하고, 비밀번호 비교는 커넥션 없이 수행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SigninResponse signin(SigninRequest signinRequest, String clientAddress) {
+        // 사용자 조회와 bcrypt 연산 전에 계정/접속 주소별 시도 횟수를 제한합니다.
+        signinThrottle.check(signinRequest.getEmail(), clientAddress);
+
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
@@ -60,6 +73,9 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 저장된 해시의 cost가 현재 설정과 다르면 백그라운드에서 갱신합니다.
+        passwordRehasher.scheduleIfNeeded(user.getId(), user.getPassword(), signinRequest.getPassword());
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
@@ -0,0 +1,123 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.StoredPasswordCosts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 로그인에 성공한 사용자의 해시 cost가 현재 설정과 다르면, 응답을 늦추지 않도록 백그라운드에서 다시 해시해 저장합니다.
+@Slf4j
+@Component
+public class PasswordRehasher {
+
+    // bcrypt cost는 2자리(4~31)이므로 cost를 그대로 인덱스로 쓰고, 0번은 형식을 알 수 없는 해시에 씁니다.
+    private static final int MAX_COST = 31;
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final StoredPasswordCosts storedPasswordCosts;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    // 평문 비밀번호를 담으므로 용량을 작게 두고, 가득 차면 버립니다. (다음 로그인 때 다시 시도됩니다.)
+    private final BlockingQueue<RehashTask> queue;
+
+    // 로그인에 성공한 사용자의 저장된 해시 cost별 횟수 (보조 지표: 저장된 해시 개수는 StoredPasswordCosts가 보여줍니다)
+    private final AtomicReferenceArray<Counter> signinCostCounters = new AtomicReferenceArray<>(MAX_COST + 1);
+    private final Counter rehashedCounter;
+    private final Counter skippedCounter;
+    private final Counter droppedCounter;
+
+    private record RehashTask(Long userId, String encodedPassword, String rawPassword) {
+    }
+
+    public PasswordRehasher(
+            PasswordEncoder passwordEncoder,
+            UserRepository userRepository,
+            StoredPasswordCosts storedPasswordCosts,
+            MeterRegistry meterRegistry,
+            @Value("${password.rehash.queue-capacity:1000}") int queueCapacity,
+            @Value("${password.rehash.batch-size:50}") int batchSize
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.storedPasswordCosts = storedPasswordCosts;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.rehashedCounter = meterRegistry.counter("password.rehash", "result", "rehashed");
+        this.skippedCounter = meterRegistry.counter("password.rehash", "result", "skipped");
+        this.droppedCounter = meterRegistry.counter("password.rehash", "result", "dropped");
+        meterRegistry.gauge("password.hash.cost", passwordEncoder, PasswordEncoder::getCost);
+        meterRegistry.gauge("password.rehash.queue", queue, BlockingQueue::size);
+    }
+
+    public void scheduleIfNeeded(Long userId, String encodedPassword, String rawPassword) {
+        signinCostCounter(PasswordEncoder.costOf(encodedPassword)).increment();
+        if (!passwordEncoder.needsRehash(encodedPassword)) {
+            return;
+        }
+        if (!queue.offer(new RehashTask(userId, encodedPassword, rawPassword))) {
+            droppedCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${password.rehash.interval-ms:1000}")
+    public void rehashPending() {
+        List<RehashTask> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+
+        for (int i = 0; i < batch.size(); i++) {
+            RehashTask task = batch.get(i);
+            String newPassword;
+            try {
+                newPassword = passwordEncoder.encode(task.rawPassword());
+            } catch (ServiceUnavailableException e) {
+                // 로그인 요청이 몰려 해시 풀이 바쁘면 나머지는 버리고 다음 로그인 때 다시 시도합니다.
+                droppedCounter.increment(batch.size() - i);
+                return;
+            }
+
+            try {
+                if (userRepository.updatePasswordIfUnchanged(task.userId(), task.encodedPassword(), newPassword) == 1) {
+                    storedPasswordCosts.replaced(task.encodedPassword(), newPassword);
+                    rehashedCounter.increment();
+                } else {
+                    skippedCounter.increment();
+                }
+            } catch (RuntimeException e) {
+                log.warn("비밀번호 재해시 저장에 실패했습니다. userId={}", task.userId(), e);
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    // 실제로 로그인하는 사용자 중 이전 cost에 남은 비율을 보여줍니다. 로그인 횟수를 세므로 저장된 해시 개수와는 다릅니다.
+    // cost 태그는 password.hash.cost 게이지와 같은 숫자 형식("4", "10")을 씁니다.
+    private Counter signinCostCounter(int cost) {
+        int index = cost > 0 && cost <= MAX_COST ? cost : 0;
+        Counter counter = signinCostCounters.get(index);
+        if (counter == null) {
+            counter = meterRegistry.counter("password.hash.signin", "cost", index == 0 ? "unknown" : String.valueOf(index));
+            signinCostCounters.set(index, counter);
+        }
+        return counter;
+    }
+}
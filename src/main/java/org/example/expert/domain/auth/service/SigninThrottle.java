@@ -0,0 +1,60 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 시도를 계정(이메일)별, 접속 주소별로 제한합니다. 사용자 조회와 bcrypt 연산 전에 호출해야 합니다.
+@Component
+public class SigninThrottle {
+
+    private final boolean enabled;
+    private final StripedTokenBucket emailBuckets;
+    private final StripedTokenBucket addressBuckets;
+
+    private final Counter emailRejectedCounter;
+    private final Counter addressRejectedCounter;
+
+    public SigninThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${auth.signin.throttle.enabled:true}") boolean enabled,
+            @Value("${auth.signin.throttle.stripes:64}") int stripes,
+            @Value("${auth.signin.throttle.slots-per-stripe:1024}") int slotsPerStripe,
+            @Value("${auth.signin.throttle.email.capacity:5}") int emailCapacity,
+            @Value("${auth.signin.throttle.email.refill-per-minute:5}") double emailRefillPerMinute,
+            @Value("${auth.signin.throttle.address.capacity:50}") int addressCapacity,
+            @Value("${auth.signin.throttle.address.refill-per-minute:50}") double addressRefillPerMinute
+    ) {
+        this.enabled = enabled;
+        this.emailBuckets = new StripedTokenBucket(stripes, slotsPerStripe, emailCapacity, emailRefillPerMinute / 60);
+        this.addressBuckets = new StripedTokenBucket(stripes, slotsPerStripe, addressCapacity, addressRefillPerMinute / 60);
+        this.emailRejectedCounter = meterRegistry.counter("auth.signin.throttled", "key", "email");
+        this.addressRejectedCounter = meterRegistry.counter("auth.signin.throttled", "key", "address");
+    }
+
+    public void check(String email, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        if (clientAddress != null) {
+            reject(addressBuckets.tryAcquire(clientAddress), addressRejectedCounter);
+        }
+        if (email != null) {
+            reject(emailBuckets.tryAcquire(email.trim().toLowerCase(Locale.ROOT)), emailRejectedCounter);
+        }
+    }
+
+    private void reject(long waitNanos, Counter counter) {
+        if (waitNanos == 0) {
+            return;
+        }
+        counter.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.expert.domain.auth.service;
+
+import java.security.SecureRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// 키별 토큰 버킷을 고정 크기 배열에 보관하는 제한기입니다.
+// 키 해시로 스트라이프를 나누어 락 경합을 줄이고, 가득 찬 버킷(오래 쓰이지 않은 키)은 빈 칸처럼 재사용해 메모리가 늘지 않습니다.
+public class StripedTokenBucket {
+
+    private static final int PROBE_LIMIT = 8;
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int slotMask;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long fullRefillNanos;
+    private final LongSupplier nanoClock;
+    private final long seed;
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] keys;
+        private final double[] tokens;
+        private final long[] updatedAt;
+
+        private Stripe(int slots) {
+            this.keys = new long[slots];
+            this.tokens = new double[slots];
+            this.updatedAt = new long[slots];
+        }
+    }
+
+    public StripedTokenBucket(int stripes, int slotsPerStripe, int capacity, double refillPerSecond) {
+        this(stripes, slotsPerStripe, capacity, refillPerSecond, System::nanoTime);
+    }
+
+    StripedTokenBucket(int stripes, int slotsPerStripe, int capacity, double refillPerSecond, LongSupplier nanoClock) {
+        this(stripes, slotsPerStripe, capacity, refillPerSecond, nanoClock, SEED_SOURCE.nextLong());
+    }
+
+    StripedTokenBucket(int stripes, int slotsPerStripe, int capacity, double refillPerSecond, LongSupplier nanoClock, long seed) {
+        int stripeCount = powerOfTwo(stripes);
+        int slotCount = Math.max(powerOfTwo(slotsPerStripe), PROBE_LIMIT);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(slotCount);
+        }
+        this.stripeMask = stripeCount - 1;
+        this.slotMask = slotCount - 1;
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.fullRefillNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.nanoClock = nanoClock;
+        this.seed = seed;
+    }
+
+    // 토큰을 하나 사용합니다. 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)을 반환합니다.
+    public long tryAcquire(String key) {
+        long hash = hash(key);
+        Stripe stripe = stripes[(int) (hash >>> 32) & stripeMask];
+        int start = (int) hash & slotMask;
+
+        stripe.lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            int match = -1;
+            int reusable = -1;
+            int oldest = -1;
+            for (int i = 0; i < PROBE_LIMIT; i++) {
+                int slot = (start + i) & slotMask;
+                if (stripe.keys[slot] == hash) {
+                    match = slot;
+                    break;
+                }
+                if (reusable < 0 && (stripe.keys[slot] == 0 || now - stripe.updatedAt[slot] >= fullRefillNanos)) {
+                    reusable = slot;
+                } else if (oldest < 0 || stripe.updatedAt[slot] < stripe.updatedAt[oldest]) {
+                    oldest = slot;
+                }
+            }
+
+            if (match < 0) {
+                // 처음 보는 키는 가득 찬 버킷으로 시작합니다. 빈 칸이 없으면 가장 오래된 키를 밀어냅니다.
+                int slot = reusable >= 0 ? reusable : oldest;
+                stripe.keys[slot] = hash;
+                stripe.tokens[slot] = capacity - 1;
+                stripe.updatedAt[slot] = now;
+                return 0;
+            }
+
+            double tokens = Math.min(capacity, stripe.tokens[match] + (now - stripe.updatedAt[match]) * tokensPerNano);
+            stripe.updatedAt[match] = now;
+            if (tokens >= 1) {
+                stripe.tokens[match] = tokens - 1;
+                return 0;
+            }
+            stripe.tokens[match] = tokens;
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // 인스턴스마다 무작위로 정한 seed로 시작하는 64비트 FNV-1a에 murmur3 finalizer를 더합니다.
+    // seed를 모르면 같은 스트라이프와 슬롯에 몰리는 키를 미리 만들 수 없어, 충돌 키를 쏟아부어
+    // 제한 중인 계정의 버킷을 밀어내고 초기화하는 공격이 어려워집니다. 0은 빈 칸 표시로 쓰므로 피합니다.
+    long hash(String key) {
+        long hash = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    private static int powerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -1,18 +1,34 @@
 package org.example.expert.domain.comment.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class CommentResponse {
 
     private final Long id;
     private final String contents;
     private final UserResponse user;
+    // 다음 페이지 커서를 만들 때만 사용하며 응답에는 포함하지 않습니다.
+    @JsonIgnore
+    private final LocalDateTime createdAt;
 
     public CommentResponse(Long id, String contents, UserResponse user) {
+        this(id, contents, user, null);
+    }
+
+    public CommentResponse(Long id, String contents, UserResponse user, LocalDateTime createdAt) {
         this.id = id;
         this.contents = contents;
         this.user = user;
+        this.createdAt = createdAt;
+    }
+
+    // JPQL 생성자 표현식용
+    public CommentResponse(Long id, String contents, Long userId, String email, LocalDateTime createdAt) {
+        this(id, contents, new UserResponse(userId, email), createdAt);
     }
 }
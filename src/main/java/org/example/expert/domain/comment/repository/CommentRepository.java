@@ -1,14 +1,37 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // (todo_id, created_at, id) 인덱스를 따라 한 페이지씩 읽습니다. 작성 순서(오래된 댓글 먼저)로 정렬합니다.
+    // 조회 전용이므로 엔티티 대신 응답에 필요한 컬럼만 읽습니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email, c.createdAt) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findFirstSliceByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email, c.createdAt) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findSliceByTodoIdAfter(@Param("todoId") Long todoId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    // 조건부 GET용 버전 조회: 댓글이 추가/삭제/수정되면 값이 바뀝니다.
+    // 일정에서 시작해 조인하므로 일정이 없으면 결과가 비어, 없는 일정에 ETag를 만들지 않습니다.
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(COUNT(c), MAX(c.id), MAX(c.modifiedAt)) " +
+            "FROM Todo t LEFT JOIN Comment c ON c.todo = t WHERE t.id = :todoId GROUP BY t.id")
+    Optional<ResourceVersion> findVersionByTodoId(@Param("todoId") Long todoId);
 }
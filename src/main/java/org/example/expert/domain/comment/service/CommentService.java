@@ -7,15 +7,20 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -26,6 +31,9 @@ public class CommentService {
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
 
+    @Value("${comment.page.max-size:100}")
+    private int maxPageSize;
+
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
@@ -47,19 +55,32 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    public String getCommentsEtag(long todoId) {
+        return commentRepository.findVersionByTodoId(todoId)
+                .map(ResourceVersion::getEtag)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
+    // 댓글이 아무리 많아도 한 요청에서 읽는 양은 최대 페이지 크기로 제한됩니다.
+    public CursorResponse<CommentResponse> getComments(long todoId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 읽습니다.
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<CommentResponse> commentList;
+        if (cursor == null || cursor.isBlank()) {
+            commentList = commentRepository.findFirstSliceByTodoId(todoId, pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            commentList = commentRepository.findSliceByTodoIdAfter(todoId, position.getTimestamp(), position.getId(), pageable);
+        }
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        String nextCursor = null;
+        if (commentList.size() > pageSize) {
+            commentList = commentList.subList(0, pageSize);
+            CommentResponse last = commentList.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
         }
-        return dtoList;
+        return new CursorResponse<>(commentList, nextCursor);
     }
 }
@@ -0,0 +1,50 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// 조건부 GET(If-None-Match)에 사용하는 리소스 버전입니다.
+// 본문 전체를 조회/직렬화하지 않고 버전 조회 쿼리 결과만으로 강한 ETag 값을 만듭니다.
+@Getter
+public class ResourceVersion {
+
+    private final String etag;
+
+    // 단일 일정: 수정 시각 + 날씨 대기 상태. (날씨 보강 UPDATE는 modifiedAt을 바꾸지 않습니다.)
+    public ResourceVersion(LocalDateTime modifiedAt, Boolean weatherPending) {
+        this.etag = encode(modifiedAt) + (Boolean.TRUE.equals(weatherPending) ? "p" : "");
+    }
+
+    // 컬렉션: 행 수 + 최대 id + 최종 수정 시각.
+    // id는 증가만 하므로 행이 추가/삭제되면 행 수나 최대 id 중 하나는 반드시 바뀝니다.
+    public ResourceVersion(Long count, Long maxId, LocalDateTime lastModified) {
+        this.etag = Long.toHexString(count != null ? count : 0) + "." +
+                Long.toHexString(maxId != null ? maxId : 0) + "." +
+                encode(lastModified);
+    }
+
+    public ResourceVersion(Long count, Long maxId) {
+        this(count, maxId, null);
+    }
+
+    // 여러 리소스를 한 응답으로 내려줄 때 각 버전을 이어 하나의 ETag로 만듭니다.
+    public static String combine(ResourceVersion... versions) {
+        StringBuilder etag = new StringBuilder();
+        for (ResourceVersion version : versions) {
+            if (!etag.isEmpty()) {
+                etag.append('-');
+            }
+            etag.append(version.getEtag());
+        }
+        return etag.toString();
+    }
+
+    private static String encode(LocalDateTime time) {
+        if (time == null) {
+            return "0";
+        }
+        return Long.toHexString(time.toEpochSecond(ZoneOffset.UTC)) + ":" + Integer.toHexString(time.getNano());
+    }
+}
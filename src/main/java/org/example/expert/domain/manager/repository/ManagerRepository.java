@@ -1,13 +1,25 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 조회 전용: 엔티티 대신 응답에 필요한 컬럼만 읽습니다. (password 등 제외, 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id = :todoId")
+    List<ManagerResponse> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 조건부 GET용 버전 조회: 담당자는 추가/삭제만 되므로 행 수와 최대 id로 충분합니다.
+    // 일정에서 시작해 조인하므로 일정이 없으면 결과가 비어, 없는 일정에 ETag를 만들지 않습니다.
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(COUNT(m), MAX(m.id)) " +
+            "FROM Todo t LEFT JOIN Manager m ON m.todo = t WHERE t.id = :todoId GROUP BY t.id")
+    Optional<ResourceVersion> findVersionByTodoId(@Param("todoId") Long todoId);
 }
@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.example.expert.domain.user.annotation.AdminAccess;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoExportService todoExportService;
+    private final TodoImportService todoImportService;
+
+    // 응답 본문에 바로 쓰므로 결과 전체를 메모리에 올리지 않습니다.
+    @AdminAccess
+    @GetMapping("/admin/todos/export")
+    public void exportTodos(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.ndjson\"");
+        todoExportService.exportTodos(response.getOutputStream());
+    }
+
+    // 요청 본문을 스트림으로 읽어 청크 단위로 저장합니다.
+    @AdminAccess
+    @PostMapping(value = "/admin/todos/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TodoImportResponse> importTodos(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(todoImportService.importTodos(request.getInputStream()));
+    }
+}
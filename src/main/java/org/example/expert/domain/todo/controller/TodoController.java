@@ -4,19 +4,29 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoDetailService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
+    private static final String TOTAL_COUNT_MODE_HEADER = "X-Total-Count-Mode";
+    private static final String EXACT = "exact";
+    private static final String APPROXIMATE = "approximate";
+
     private final TodoService todoService;
+    private final TodoDetailService todoDetailService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -29,13 +39,55 @@ public class TodoController {
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = TOTAL_COUNT_MODE_HEADER, defaultValue = EXACT) String countMode
+    ) {
+        // 근사 개수를 요청하면 COUNT(*)를 생략하고, 응답 헤더로 어떤 값인지 알려줍니다.
+        if (APPROXIMATE.equalsIgnoreCase(countMode)) {
+            return ResponseEntity.ok()
+                    .header(TOTAL_COUNT_MODE_HEADER, APPROXIMATE)
+                    .body(todoService.getTodosWithApproximateCount(page, size));
+        }
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_MODE_HEADER, EXACT)
+                .body(todoService.getTodos(page, size));
+    }
+
+    @GetMapping("/todos/scroll")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
     }
 
+    // 버전 조회 결과가 If-None-Match와 같으면 본문을 조회/직렬화하지 않고 304로 응답합니다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        String etag = todoService.getTodoEtag(todoId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(todoService.getTodo(todoId));
+    }
+
+    // 일정, 작성자, 담당자, 첫 페이지 댓글을 한 번에 조회합니다.
+    @GetMapping("/todos/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "10") int commentSize,
+            WebRequest webRequest
+    ) {
+        String etag = todoDetailService.getTodoDetailEtag(todoId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(todoDetailService.getTodoDetail(todoId, commentSize));
     }
 }
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class PendingWeatherTodo {
+
+    private final Long id;
+    private final LocalDateTime createdAt;
+
+    public PendingWeatherTodo(Long id, LocalDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 일괄 등록 NDJSON의 한 줄: 일정 하나와 그 댓글, 담당자
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportRow {
+
+    private String title;
+    private String contents;
+    private String weather;
+    private Long userId;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private List<Comment> comments = new ArrayList<>();
+    private List<Long> managerUserIds = new ArrayList<>();
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Comment {
+
+        private String contents;
+        private Long userId;
+        private LocalDateTime createdAt;
+    }
+}
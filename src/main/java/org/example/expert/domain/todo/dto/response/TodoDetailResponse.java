@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class TodoDetailResponse {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final UserResponse user;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final List<ManagerResponse> managers;
+    private final List<CommentResponse> comments;
+    private final boolean hasMoreComments;
+    private final String nextCommentCursor;
+
+    public TodoDetailResponse(TodoResponse todo, List<ManagerResponse> managers, CursorResponse<CommentResponse> comments) {
+        this.id = todo.getId();
+        this.title = todo.getTitle();
+        this.contents = todo.getContents();
+        this.weather = todo.getWeather();
+        this.user = todo.getUser();
+        this.createdAt = todo.getCreatedAt();
+        this.modifiedAt = todo.getModifiedAt();
+        this.managers = managers;
+        this.comments = comments.getContent();
+        this.hasMoreComments = comments.isHasNext();
+        this.nextCommentCursor = comments.getNextCursor();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoImportResponse {
+
+    private final long todos;
+    private final long comments;
+    private final long managers;
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+
+    public TodoImportResponse(long todos, long comments, long managers, long elapsedMillis) {
+        this.todos = todos;
+        this.comments = comments;
+        this.managers = managers;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = (todos + comments + managers) * 1000 / Math.max(elapsedMillis, 1);
+    }
+}
@@ -14,7 +14,11 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@EntityListeners(TodoCountListener.class)
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_weather_pending", columnList = "weather_pending"),
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id")
+})
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +26,8 @@ public class Todo extends Timestamped {
     private String title;
     private String contents;
     private String weather;
+    // 비동기 날씨 보강 모드에서 아직 날씨가 채워지지 않은 일정
+    private boolean weatherPending;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -41,6 +47,10 @@ public class Todo extends Timestamped {
         this.managers.add(new Manager(user, this));
     }
 
+    public void markWeatherPending() {
+        this.weatherPending = true;
+    }
+
     public void update(String title, String contents) {
         this.title = title;
         this.contents = contents;
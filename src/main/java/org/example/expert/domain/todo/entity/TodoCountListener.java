@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TodoCountListener {
+
+    // EntityManagerFactory 생성 중에 만들어지므로, repository를 쓰는 캐시는 처음 사용할 때 가져옵니다.
+    private final ObjectProvider<TodoCountCache> todoCountCache;
+
+    public TodoCountListener(ObjectProvider<TodoCountCache> todoCountCache) {
+        this.todoCountCache = todoCountCache;
+    }
+
+    @PostPersist
+    public void onPersist(Todo todo) {
+        todoCountCache.getObject().onInserted();
+    }
+
+    @PostRemove
+    public void onRemove(Todo todo) {
+        todoCountCache.getObject().onDeleted();
+    }
+}
@@ -1,23 +1,62 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.PendingWeatherTodo;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 조회 API는 엔티티 대신 응답에 필요한 컬럼만 읽어 TodoResponse로 바로 생성합니다.
+    // (작성자의 password를 읽지 않고, 변경 감지용 스냅샷도 만들지 않습니다.)
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    @Query(value = TODO_RESPONSE + "ORDER BY t.modifiedAt DESC", countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findAllByOrderByModifiedAtDesc(Pageable pageable);
+
+    // 전체 개수를 따로 구하는 경우에 사용합니다. (COUNT 쿼리 없음)
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC")
+    List<TodoResponse> findPageByOrderByModifiedAtDesc(Pageable pageable);
+
+    // 커서 기반 조회: (modified_at, id) 인덱스를 따라 탐색하며 COUNT 쿼리를 실행하지 않습니다.
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstSlice(Pageable pageable);
+
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findSliceAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findByIdWithUser(@Param("todoId") Long todoId);
+
+    // 조건부 GET용 버전 조회: 일정 행만 PK로 읽습니다.
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(t.modifiedAt, t.weatherPending) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<ResourceVersion> findVersionById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.PendingWeatherTodo(t.id, t.createdAt) FROM Todo t " +
+            "WHERE t.weatherPending = true AND t.id > :afterId ORDER BY t.id")
+    List<PendingWeatherTodo> findPendingWeatherAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.weather = :weather, t.weatherPending = false " +
+            "WHERE t.id IN :todoIds AND t.weatherPending = true")
+    int fillPendingWeather(@Param("todoIds") Collection<Long> todoIds, @Param("weather") String weather);
 }
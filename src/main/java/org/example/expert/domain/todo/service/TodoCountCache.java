@@ -0,0 +1,71 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 목록 조회의 전체 개수를 COUNT(*) 대신 메모리 값으로 제공합니다.
+// 일정 저장/삭제 시 커밋 이후에 증감하고, 벌크 삭제나 다른 인스턴스의 변경으로 생기는 오차는 주기적인 재계산으로 맞춥니다.
+@Component
+public class TodoCountCache {
+
+    private static final long UNINITIALIZED = -1;
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong count = new AtomicLong(UNINITIALIZED);
+
+    public TodoCountCache(TodoRepository todoRepository, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        meterRegistry.gauge("todo.count.approximate", count, AtomicLong::get);
+    }
+
+    public long approximateCount() {
+        long current = count.get();
+        if (current == UNINITIALIZED) {
+            refresh();
+            current = count.get();
+        }
+        return Math.max(current, 0);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.refresh-interval-ms:60000}")
+    public void refresh() {
+        count.set(todoRepository.count());
+    }
+
+    public void onInserted() {
+        afterCommit(1);
+    }
+
+    // JPA를 거치지 않은 일괄 등록에서 호출합니다.
+    public void onInserted(long inserted) {
+        afterCommit(inserted);
+    }
+
+    public void onDeleted() {
+        afterCommit(-1);
+    }
+
+    private void afterCommit(long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adjust(delta);
+                }
+            });
+            return;
+        }
+        adjust(delta);
+    }
+
+    // 아직 한 번도 계산하지 않았다면 첫 조회 때 정확한 값을 읽으므로 증감하지 않습니다.
+    private void adjust(long delta) {
+        count.updateAndGet(current -> current == UNINITIALIZED ? UNINITIALIZED : Math.max(current + delta, 0));
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 일정 상세 화면에 필요한 일정/작성자, 담당자, 첫 페이지 댓글을 한 번의 요청으로 조회합니다.
+// 세 조회는 서로 독립적이므로 각각 읽기 전용 트랜잭션으로 동시에 실행하며, SQL은 항상 3개입니다.
+@Service
+public class TodoDetailService {
+
+    private static final int MAX_COMMENT_SIZE = 100;
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor;
+
+    public TodoDetailService(
+            TodoRepository todoRepository,
+            ManagerRepository managerRepository,
+            CommentRepository commentRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.detail.threads:4}") int threads,
+            @Value("${todo.detail.queue-capacity:64}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.todoRepository = todoRepository;
+        this.managerRepository = managerRepository;
+        this.commentRepository = commentRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // 가상 스레드 모드에서는 조회마다 가상 스레드를 만들고, 동시 실행 수는 커넥션 풀이 제한합니다.
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("todo-detail-", 1).factory());
+            return;
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        // 풀이 가득 차면 요청 스레드에서 직접 실행해, 동시 조회 대신 순차 조회로 자연스럽게 물러납니다.
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "todo-detail-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+    }
+
+    public TodoDetailResponse getTodoDetail(long todoId, int commentSize) {
+        int pageSize = Math.min(Math.max(commentSize, 1), MAX_COMMENT_SIZE);
+
+        CompletableFuture<Optional<TodoResponse>> todoFuture = read(() -> todoRepository.findByIdWithUser(todoId));
+        CompletableFuture<List<ManagerResponse>> managersFuture = read(() -> managerRepository.findByTodoIdWithUser(todoId));
+        CompletableFuture<CursorResponse<CommentResponse>> commentsFuture = read(() -> firstCommentPage(todoId, pageSize));
+
+        TodoResponse todo = await(todoFuture)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        List<ManagerResponse> managers = await(managersFuture);
+        CursorResponse<CommentResponse> comments = await(commentsFuture);
+
+        return new TodoDetailResponse(todo, managers, comments);
+    }
+
+    // 상세 응답을 이루는 세 리소스의 버전을 이어 붙입니다. 가벼운 쿼리 3개이므로 요청 스레드에서 순서대로 실행합니다.
+    public String getTodoDetailEtag(long todoId) {
+        return readOnlyTransaction.execute(status -> ResourceVersion.combine(
+                todoRepository.findVersionById(todoId)
+                        .orElseThrow(() -> new InvalidRequestException("Todo not found")),
+                managerRepository.findVersionByTodoId(todoId)
+                        .orElseThrow(() -> new InvalidRequestException("Todo not found")),
+                commentRepository.findVersionByTodoId(todoId)
+                        .orElseThrow(() -> new InvalidRequestException("Todo not found"))
+        ));
+    }
+
+    // 댓글 목록 API와 같은 순서/커서를 사용해, 이어지는 댓글은 GET /todos/{todoId}/comments?cursor= 로 조회할 수 있습니다.
+    private CursorResponse<CommentResponse> firstCommentPage(long todoId, int pageSize) {
+        // 댓글이 더 있는지 알기 위해 한 건 더 읽습니다.
+        List<CommentResponse> comments = commentRepository.findFirstSliceByTodoId(todoId, PageRequest.of(0, pageSize + 1));
+
+        String nextCursor = null;
+        if (comments.size() > pageSize) {
+            comments = comments.subList(0, pageSize);
+            CommentResponse last = comments.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(comments, nextCursor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 조회 결과는 모두 DTO 프로젝션이므로 다른 스레드로 넘겨도 지연 로딩이 일어나지 않습니다.
+    private <T> CompletableFuture<T> read(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor);
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("일정 상세 조회에 실패했습니다.");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.*;
+import java.time.format.DateTimeFormatter;
+
+// 일정 전체를 NDJSON(한 줄에 JSON 하나)으로 내보냅니다.
+// 엔티티를 만들지 않고 JDBC 커서에서 한 행씩 읽어 바로 출력 스트림에 쓰므로, 행 수와 관계없이 메모리 사용량이 일정합니다.
+@Service
+public class TodoExportService {
+
+    private static final String EXPORT_SQL = "SELECT t.id, t.title, t.contents, t.weather, t.user_id, u.email, t.created_at, t.modified_at " +
+            "FROM todos t JOIN users u ON u.id = t.user_id ORDER BY t.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int flushEvery;
+    private final Counter exportedCounter;
+
+    public TodoExportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize,
+            @Value("${todo.export.flush-every:1000}") int flushEvery
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+        this.exportedCounter = meterRegistry.counter("todo.export.rows");
+    }
+
+    // 내보낸 행 수를 반환합니다. (PostgreSQL 등은 트랜잭션 안에서만 커서 단위로 가져오므로 읽기 전용 트랜잭션으로 감쌉니다.)
+    public long exportTodos(OutputStream outputStream) {
+        Long exported = readOnlyTransaction.execute(status -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                return jdbcTemplate.query(this::prepareCursor, resultSet -> {
+                    long count = 0;
+                    try {
+                        while (resultSet.next()) {
+                            writeRow(generator, resultSet);
+                            if (++count % flushEvery == 0) {
+                                generator.flush();
+                                exportedCounter.increment(flushEvery);
+                            }
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    exportedCounter.increment(count % flushEvery);
+                    return count;
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return exported != null ? exported : 0;
+    }
+
+    private PreparedStatement prepareCursor(Connection connection) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        // MySQL 드라이버는 fetch size를 Integer.MIN_VALUE로 줄 때만 결과를 한 행씩 스트리밍합니다.
+        boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+        return statement;
+    }
+
+    private void writeRow(JsonGenerator generator, ResultSet resultSet) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", resultSet.getLong("id"));
+        generator.writeStringField("title", resultSet.getString("title"));
+        generator.writeStringField("contents", resultSet.getString("contents"));
+        generator.writeStringField("weather", resultSet.getString("weather"));
+        generator.writeNumberField("userId", resultSet.getLong("user_id"));
+        generator.writeStringField("email", resultSet.getString("email"));
+        writeTimestamp(generator, "createdAt", resultSet.getTimestamp("created_at"));
+        writeTimestamp(generator, "modifiedAt", resultSet.getTimestamp("modified_at"));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeTimestamp(JsonGenerator generator, String field, Timestamp timestamp) throws IOException {
+        if (timestamp == null) {
+            generator.writeNullField(field);
+            return;
+        }
+        generator.writeStringField(field, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp.toLocalDateTime()));
+    }
+}
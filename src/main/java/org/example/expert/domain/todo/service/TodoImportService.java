@@ -0,0 +1,192 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.request.TodoImportRow;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// NDJSON으로 받은 일정/댓글/담당자를 JDBC 배치 INSERT로 일괄 등록합니다.
+// IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 JPA를 거치지 않고, 청크 단위로 읽고 청크마다 커밋합니다.
+// MySQL에서는 rewriteBatchedStatements=true 를 켜야 배치가 다중 행 INSERT 한 번으로 전송됩니다.
+@Slf4j
+@Service
+public class TodoImportService {
+
+    private static final String INSERT_TODO = "INSERT INTO todos (title, contents, weather, weather_pending, user_id, created_at, modified_at) " +
+            "VALUES (?, ?, ?, FALSE, ?, ?, ?)";
+    private static final String INSERT_COMMENT = "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_MANAGER = "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final TodoCountCache todoCountCache;
+    private final int chunkSize;
+    private final Counter importedCounter;
+
+    public TodoImportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            TodoCountCache todoCountCache,
+            MeterRegistry meterRegistry,
+            @Value("${todo.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.todoCountCache = todoCountCache;
+        this.chunkSize = chunkSize;
+        this.importedCounter = meterRegistry.counter("todo.import.rows");
+    }
+
+    // 본문을 한 줄씩 읽으므로 메모리에는 한 청크만 올라갑니다. 실패하면 이전 청크까지는 이미 커밋되어 있습니다.
+    public TodoImportResponse importTodos(InputStream inputStream) {
+        long start = System.nanoTime();
+        ImportCounts counts = new ImportCounts();
+        List<TodoImportRow> chunk = new ArrayList<>(chunkSize);
+        // 마지막으로 읽은 줄 번호
+        long line = 0;
+
+        try (MappingIterator<TodoImportRow> rows = objectMapper.readerFor(TodoImportRow.class).readValues(inputStream)) {
+            while (rows.hasNextValue()) {
+                TodoImportRow row = rows.nextValue();
+                chunk.add(validate(row, ++line));
+                if (chunk.size() == chunkSize) {
+                    insertChunk(chunk, counts, line);
+                    chunk.clear();
+                }
+            }
+            insertChunk(chunk, counts, line);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException((line + 1) + "번째 줄의 형식이 올바르지 않습니다. 등록된 일정 수: " + counts.todos);
+        } catch (IOException e) {
+            throw new ServerException("일괄 등록 데이터를 읽지 못했습니다. 등록된 일정 수: " + counts.todos);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        TodoImportResponse response = new TodoImportResponse(counts.todos, counts.comments, counts.managers, elapsedMillis);
+        log.info("일정 일괄 등록 완료: todos={}, comments={}, managers={}, {} ms, {} rows/s",
+                counts.todos, counts.comments, counts.managers, elapsedMillis, response.getRowsPerSecond());
+        return response;
+    }
+
+    private TodoImportRow validate(TodoImportRow row, long line) {
+        if (row.getTitle() == null || row.getTitle().isBlank() || row.getUserId() == null) {
+            throw new InvalidRequestException(line + "번째 줄에 title 또는 userId가 없습니다.");
+        }
+        for (TodoImportRow.Comment comment : nullSafe(row.getComments())) {
+            if (comment.getUserId() == null) {
+                throw new InvalidRequestException(line + "번째 줄의 댓글에 userId가 없습니다.");
+            }
+        }
+        return row;
+    }
+
+    private void insertChunk(List<TodoImportRow> chunk, ImportCounts counts, long line) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                long[] todoIds = insertTodos(chunk, now);
+
+                List<Object[]> comments = new ArrayList<>();
+                List<Object[]> managers = new ArrayList<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    TodoImportRow row = chunk.get(i);
+                    for (TodoImportRow.Comment comment : nullSafe(row.getComments())) {
+                        Timestamp createdAt = comment.getCreatedAt() != null ? Timestamp.valueOf(comment.getCreatedAt()) : now;
+                        comments.add(new Object[]{comment.getContents(), comment.getUserId(), todoIds[i], createdAt, createdAt});
+                    }
+                    // 일정 작성자는 항상 담당자입니다. (Todo 생성자와 같은 규칙)
+                    Set<Long> managerUserIds = new LinkedHashSet<>();
+                    managerUserIds.add(row.getUserId());
+                    managerUserIds.addAll(nullSafe(row.getManagerUserIds()));
+                    for (Long managerUserId : managerUserIds) {
+                        managers.add(new Object[]{managerUserId, todoIds[i]});
+                    }
+                }
+                jdbcTemplate.batchUpdate(INSERT_COMMENT, comments);
+                jdbcTemplate.batchUpdate(INSERT_MANAGER, managers);
+
+                counts.todos += todoIds.length;
+                counts.comments += comments.size();
+                counts.managers += managers.size();
+                importedCounter.increment(todoIds.length + comments.size() + managers.size());
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException(line + "번째 줄까지의 청크를 저장하지 못했습니다. 존재하지 않는 사용자를 참조했는지 확인해주세요. 등록된 일정 수: " + counts.todos);
+        }
+        todoCountCache.onInserted(chunk.size());
+    }
+
+    // 배치 INSERT 후 생성된 id를 입력 순서대로 돌려받아 댓글과 담당자의 todo_id로 사용합니다.
+    private long[] insertTodos(List<TodoImportRow> chunk, Timestamp now) {
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_TODO, new String[]{"id"})) {
+                for (TodoImportRow row : chunk) {
+                    Timestamp createdAt = row.getCreatedAt() != null ? Timestamp.valueOf(row.getCreatedAt()) : now;
+                    Timestamp modifiedAt = row.getModifiedAt() != null ? Timestamp.valueOf(row.getModifiedAt()) : createdAt;
+                    statement.setString(1, row.getTitle());
+                    statement.setString(2, row.getContents());
+                    statement.setString(3, row.getWeather());
+                    statement.setLong(4, row.getUserId());
+                    statement.setTimestamp(5, createdAt);
+                    statement.setTimestamp(6, modifiedAt);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                long[] ids = new long[chunk.size()];
+                int index = 0;
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next() && index < ids.length) {
+                        ids[index++] = keys.getLong(1);
+                    }
+                }
+                if (index != ids.length) {
+                    throw new ServerException("생성된 일정 id를 모두 받지 못했습니다.");
+                }
+                return ids;
+            }
+        });
+    }
+
+    private static <T> List<T> nullSafe(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    private static class ImportCounts {
+        private long todos;
+        private long comments;
+        private long managers;
+    }
+}
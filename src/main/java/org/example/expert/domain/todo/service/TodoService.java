@@ -3,6 +3,9 @@ package org.example.expert.domain.todo.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
@@ -12,24 +15,37 @@ import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TodoCountCache todoCountCache;
 
-    @Transactional
+    // 날씨 API를 호출하는 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 외부 데이터를 먼저 받아오고,
+    // 저장은 repository 트랜잭션에서만 수행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        // 비동기 모드에서는 날씨 API를 기다리지 않고 저장한 뒤, 백그라운드에서 날씨를 채웁니다.
+        boolean asyncWeather = todoWeatherEnricher.isAsyncEnabled();
+        String weather = asyncWeather ? null : weatherClient.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -37,8 +53,15 @@ public class TodoService {
                 weather,
                 user
         );
+        if (asyncWeather) {
+            newTodo.markWeatherPending();
+        }
         Todo savedTodo = todoRepository.save(newTodo);
 
+        if (asyncWeather) {
+            todoWeatherEnricher.enqueue(savedTodo.getId(), LocalDate.now());
+        }
+
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
@@ -51,33 +74,50 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoRepository.findAllByOrderByModifiedAtDesc(pageable);
     }
 
-    public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    // COUNT(*) 없이 주기적으로 갱신되는 근사 개수를 전체 개수로 사용합니다.
+    public Page<TodoResponse> getTodosWithApproximateCount(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
 
-        User user = todo.getUser();
+        List<TodoResponse> todos = todoRepository.findPageByOrderByModifiedAtDesc(pageable);
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        return new PageImpl<>(todos, pageable, todoCountCache.approximateCount());
+    }
+
+    // 오프셋 대신 마지막으로 본 (modifiedAt, id) 다음부터 읽어, 몇 번째 페이지든 같은 비용으로 조회합니다.
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 읽습니다.
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<TodoResponse> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstSlice(pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            todos = todoRepository.findSliceAfter(position.getTimestamp(), position.getId(), pageable);
+        }
+
+        String nextCursor = null;
+        if (todos.size() > pageSize) {
+            todos = todos.subList(0, pageSize);
+            TodoResponse last = todos.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(todos, nextCursor);
+    }
+
+    // 일정이 없으면 getTodo와 같은 예외를 던집니다.
+    public String getTodoEtag(long todoId) {
+        return todoRepository.findVersionById(todoId)
+                .map(ResourceVersion::getEtag)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
+    public TodoResponse getTodo(long todoId) {
+        return todoRepository.findByIdWithUser(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
     }
 }
@@ -0,0 +1,189 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.dto.PendingWeatherTodo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+// 비동기 모드에서 날씨 없이 저장된 일정을 백그라운드에서 모아 날짜별 UPDATE 한 번으로 채웁니다.
+@Slf4j
+@Component
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+
+    private final boolean asyncEnabled;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long retryMaxBackoffMs;
+
+    private final BlockingQueue<PendingWeather> queue;
+    // 재시도 대기 중인 일정. 대기 시간이 지난 것만 꺼낼 수 있습니다.
+    private final DelayQueue<RetryingWeather> retryQueue = new DelayQueue<>();
+    // 큐, 재시도 대기, 처리 중 어디에든 있는 일정 id (DB 재조회 시 중복 적재 방지)
+    private final Set<Long> trackedIds = ConcurrentHashMap.newKeySet();
+    // 재조회가 마지막으로 읽은 일정 id. 이미 시도한 행을 건너뛰고 다음 행부터 읽습니다.
+    private long sweepCursor;
+
+    private final Counter enrichedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private record PendingWeather(long todoId, LocalDate date, int attempts) {
+    }
+
+    private record RetryingWeather(PendingWeather pending, long readyAtNanos) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            MeterRegistry meterRegistry,
+            @Value("${todo.weather.enrichment.async:false}") boolean asyncEnabled,
+            @Value("${todo.weather.enrichment.queue-capacity:10000}") int queueCapacity,
+            @Value("${todo.weather.enrichment.batch-size:500}") int batchSize,
+            @Value("${todo.weather.enrichment.max-attempts:5}") int maxAttempts,
+            @Value("${todo.weather.enrichment.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${todo.weather.enrichment.retry-max-backoff-ms:60000}") long retryMaxBackoffMs
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.asyncEnabled = asyncEnabled;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.retryMaxBackoffMs = retryMaxBackoffMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.enrichedCounter = meterRegistry.counter("todo.weather.enrichment", "result", "enriched");
+        this.retriedCounter = meterRegistry.counter("todo.weather.enrichment", "result", "retried");
+        this.failedCounter = meterRegistry.counter("todo.weather.enrichment", "result", "failed");
+        meterRegistry.gauge("todo.weather.enrichment.queue", queue, BlockingQueue::size);
+        meterRegistry.gauge("todo.weather.enrichment.retrying", retryQueue, DelayQueue::size);
+    }
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 큐에 넣어, 아직 보이지 않는 행을 갱신하려는 일이 없도록 합니다.
+    public void enqueue(long todoId, LocalDate date) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(new PendingWeather(todoId, date, 0));
+                }
+            });
+            return;
+        }
+        offer(new PendingWeather(todoId, date, 0));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather.enrichment.interval-ms:1000}")
+    public void enrichPending() {
+        // 재시도 시각이 된 일정을 먼저 꺼내고, 남은 자리를 새 일정으로 채웁니다.
+        List<RetryingWeather> due = new ArrayList<>();
+        retryQueue.drainTo(due, batchSize);
+        List<PendingWeather> batch = new ArrayList<>(batchSize);
+        due.forEach(retrying -> batch.add(retrying.pending()));
+        queue.drainTo(batch, batchSize - batch.size());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<LocalDate, List<PendingWeather>> byDate = new HashMap<>();
+        for (PendingWeather pending : batch) {
+            byDate.computeIfAbsent(pending.date(), date -> new ArrayList<>()).add(pending);
+        }
+
+        for (Map.Entry<LocalDate, List<PendingWeather>> entry : byDate.entrySet()) {
+            List<PendingWeather> group = entry.getValue();
+            try {
+                String weather = weatherClient.getWeather(entry.getKey());
+                List<Long> todoIds = group.stream().map(PendingWeather::todoId).toList();
+                enrichedCounter.increment(todoRepository.fillPendingWeather(todoIds, weather));
+                todoIds.forEach(trackedIds::remove);
+            } catch (RuntimeException e) {
+                log.warn("일정 날씨 보강에 실패했습니다. date={}, count={}", entry.getKey(), group.size(), e);
+                group.forEach(this::retry);
+            }
+        }
+    }
+
+    // 큐가 가득 찼거나 재시도 한도를 넘겨 빠진 일정, 재기동 전에 남아있던 일정을 DB에서 다시 적재합니다.
+    // 매번 앞쪽 행만 다시 읽으면 계속 실패하는 행이 뒤의 행을 막으므로, id 순으로 이어서 읽고 끝에 닿으면 처음부터 다시 읽습니다.
+    @Scheduled(fixedDelayString = "${todo.weather.enrichment.sweep-interval-ms:60000}")
+    public void sweepPending() {
+        if (!asyncEnabled) {
+            return;
+        }
+        List<PendingWeatherTodo> todos = todoRepository.findPendingWeatherAfter(sweepCursor, PageRequest.of(0, batchSize));
+        for (PendingWeatherTodo todo : todos) {
+            if (queue.remainingCapacity() == 0) {
+                return;
+            }
+            LocalDate date = todo.getCreatedAt() != null ? todo.getCreatedAt().toLocalDate() : LocalDate.now();
+            offer(new PendingWeather(todo.getId(), date, 0));
+            sweepCursor = todo.getId();
+        }
+        if (todos.size() < batchSize) {
+            sweepCursor = 0;
+        }
+    }
+
+    int getQueueDepth() {
+        return queue.size() + retryQueue.size();
+    }
+
+    // 시도할 때마다 대기 시간을 두 배로 늘려, 날씨 API 장애가 몇 번의 주기 만에 재시도 한도를 모두 소진하지 않게 합니다.
+    private void retry(PendingWeather pending) {
+        if (pending.attempts() + 1 >= maxAttempts || retryQueue.size() >= queueCapacity) {
+            // DB에는 대기 상태로 남아 있으므로 다음 재조회 때 다시 시도됩니다.
+            failedCounter.increment();
+            trackedIds.remove(pending.todoId());
+            return;
+        }
+        retriedCounter.increment();
+        long backoffMs = Math.min(retryMaxBackoffMs, retryBackoffMs << Math.min(pending.attempts(), 20));
+        retryQueue.add(new RetryingWeather(
+                new PendingWeather(pending.todoId(), pending.date(), pending.attempts() + 1),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs)
+        ));
+    }
+
+    private void offer(PendingWeather pending) {
+        if (!trackedIds.add(pending.todoId())) {
+            return;
+        }
+        if (!queue.offer(pending)) {
+            trackedIds.remove(pending.todoId());
+        }
+    }
+}
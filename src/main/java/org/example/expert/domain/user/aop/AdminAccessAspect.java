@@ -7,6 +7,7 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.domain.audit.service.AdminAuditRecorder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -17,6 +18,8 @@ import org.springframework.web.context.request.RequestContextHolder;
 @RequiredArgsConstructor
 public class AdminAccessAspect {
 
+    private final AdminAuditRecorder adminAuditRecorder;
+
     @Pointcut("@annotation(org.example.expert.domain.user.annotation.AdminAccess)")
     private void adminAccess() {
     }
@@ -35,26 +38,19 @@ public class AdminAccessAspect {
             return joinPoint.proceed();
         }
 
-        // userId를 문자열로 가져오고, Long으로 변환
-        String userIdStr = (String) request.getAttribute("userId");
-        Long userId = (userIdStr != null) ? Long.parseLong(userIdStr) : null;
-
-        String requestUrl = request.getRequestURI();
-        long requestTime = System.currentTimeMillis();
+        // JwtFilter는 userId를 Long으로 저장합니다.
+        Object userIdAttribute = request.getAttribute("userId");
+        Long userId = (userIdAttribute != null) ? Long.valueOf(userIdAttribute.toString()) : null;
 
-        log.info("API 요청 시각: {}", requestTime);
-        log.info("요청한 사용자의 ID: {}", userId);
-        log.info("API 요청 URL: {}", requestUrl);
-
-        Object result;
+        // 소요 시간은 LatencyTimingAspect가 기록하고, 호출 기록은 요청 스레드에서 버퍼에 넣기만 합니다.
+        String handler = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        boolean succeeded = false;
         try {
-            result = joinPoint.proceed();
+            Object result = joinPoint.proceed();
+            succeeded = true;
+            return result;
         } finally {
-            long endTime = System.currentTimeMillis();
-            log.info("요청 종료 시각: {}", endTime);
-            log.info("요청 소요 시간: {} ms", endTime - requestTime);
+            adminAuditRecorder.record(userId, request.getMethod(), request.getRequestURI(), handler, succeeded);
         }
-
-        return result;
     }
 }
\ No newline at end of file
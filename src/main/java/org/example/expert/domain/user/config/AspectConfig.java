@@ -1,5 +1,6 @@
 package org.example.expert.domain.user.config;
 
+import org.example.expert.domain.audit.service.AdminAuditRecorder;
 import org.example.expert.domain.user.aop.AdminAccessAspect;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,7 +12,7 @@ import org.springframework.web.context.request.RequestContextListener;
 public class AspectConfig {
 
     @Bean
-    public AdminAccessAspect adminAccessAspect() {
-        return new AdminAccessAspect();
+    public AdminAccessAspect adminAccessAspect(AdminAuditRecorder adminAuditRecorder) {
+        return new AdminAccessAspect(adminAuditRecorder);
     }
 }
\ No newline at end of file
@@ -2,10 +2,38 @@ package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않습니다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // 비밀번호 변경: 조회한 뒤 다른 요청이 먼저 바꿨으면 덮어쓰지 않습니다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword, u.modifiedAt = :modifiedAt " +
+            "WHERE u.id = :userId AND u.password = :oldPassword")
+    int changePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword,
+                                  @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    // bcrypt 해시 "$2a$10$..." 의 cost 부분별 사용자 수. 전체 테이블을 읽으므로 기동 시와 한가한 시간에만 실행합니다.
+    @Query("SELECT SUBSTRING(u.password, 5, 2), COUNT(u) FROM User u GROUP BY SUBSTRING(u.password, 5, 2)")
+    List<Object[]> countByPasswordCost();
 }
@@ -0,0 +1,108 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 저장된 비밀번호 해시의 cost별 개수를 password.hash.stored{cost} 게이지로 보여줍니다.
+// 전체 사용자 GROUP BY는 기동 시와 한가한 시간(password.hash.stats-cron)에만 실행하고,
+// 그 사이에는 가입/비밀번호 변경/재해시가 성공할 때마다 개수를 옮겨 최신으로 유지합니다.
+// 로그인하지 않는 사용자도 세므로, 이전 cost에 남은 해시가 몇 개인지 알 수 있습니다.
+@Slf4j
+@Component
+public class StoredPasswordCosts {
+
+    // bcrypt cost는 2자리(4~31)이므로 cost를 그대로 인덱스로 쓰고, 0번은 형식을 알 수 없는 해시에 씁니다.
+    private static final int MAX_COST = 31;
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReferenceArray<AtomicLong> counts = new AtomicReferenceArray<>(MAX_COST + 1);
+
+    public StoredPasswordCosts(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 새 해시가 저장되었을 때 (가입)
+    public void added(String encodedPassword) {
+        count(indexOf(encodedPassword)).incrementAndGet();
+    }
+
+    // 기존 해시가 새 해시로 바뀌었을 때 (비밀번호 변경, 재해시). 조건부 UPDATE가 성공한 경우에만 호출합니다.
+    public void replaced(String oldEncodedPassword, String newEncodedPassword) {
+        int from = indexOf(oldEncodedPassword);
+        int to = indexOf(newEncodedPassword);
+        if (from != to) {
+            count(from).decrementAndGet();
+            count(to).incrementAndGet();
+        }
+    }
+
+    // 전체 개수를 다시 세어, 그 사이 DB를 직접 수정하는 등으로 어긋난 값을 바로잡습니다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${password.hash.stats-cron:0 30 4 * * *}")
+    public void recount() {
+        long[] recounted = new long[MAX_COST + 1];
+        try {
+            for (Object[] row : userRepository.countByPasswordCost()) {
+                recounted[indexOf(row[0])] += ((Number) row[1]).longValue();
+            }
+        } catch (RuntimeException e) {
+            log.warn("저장된 비밀번호 해시 cost별 개수를 세지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+            return;
+        }
+        for (int index = 0; index <= MAX_COST; index++) {
+            if (recounted[index] > 0 || counts.get(index) != null) {
+                count(index).set(recounted[index]);
+            }
+        }
+    }
+
+    long get(int cost) {
+        AtomicLong count = counts.get(cost);
+        return count != null ? count.get() : 0;
+    }
+
+    // 실제로 쓰이는 cost만 게이지로 등록합니다.
+    private AtomicLong count(int index) {
+        AtomicLong count = counts.get(index);
+        if (count == null) {
+            AtomicLong created = new AtomicLong();
+            if (counts.compareAndSet(index, null, created)) {
+                meterRegistry.gauge("password.hash.stored", Tags.of("cost", index == 0 ? "unknown" : String.valueOf(index)),
+                        created, AtomicLong::get);
+            }
+            count = counts.get(index);
+        }
+        return count;
+    }
+
+    private static int indexOf(String encodedPassword) {
+        int cost = PasswordEncoder.costOf(encodedPassword);
+        return cost > 0 && cost <= MAX_COST ? cost : 0;
+    }
+
+    // GROUP BY 결과의 cost 부분("10")을 인덱스로 바꿉니다.
+    private static int indexOf(Object cost) {
+        if (cost == null) {
+            return 0;
+        }
+        String digits = cost.toString();
+        if (digits.length() != 2 || !Character.isDigit(digits.charAt(0)) || !Character.isDigit(digits.charAt(1))) {
+            return 0;
+        }
+        int value = Integer.parseInt(digits);
+        return value > 0 && value <= MAX_COST ? value : 0;
+    }
+}
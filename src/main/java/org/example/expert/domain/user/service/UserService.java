@@ -8,8 +8,11 @@ import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -17,13 +20,16 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final StoredPasswordCosts storedPasswordCosts;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    // bcrypt 비교와 해시를 트랜잭션(커넥션) 밖에서 수행하고, 조회와 수정은 repository 트랜잭션에서만 짧게 실행합니다.
+    // 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest.getNewPassword());
 
@@ -38,7 +44,11 @@ public class UserService {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
+        if (userRepository.changePasswordIfUnchanged(userId, user.getPassword(), encodedPassword, LocalDateTime.now()) == 0) {
+            throw new InvalidRequestException("비밀번호가 그 사이 변경되었습니다. 다시 시도해주세요.");
+        }
+        storedPasswordCosts.replaced(user.getPassword(), encodedPassword);
     }
 
     void validateNewPassword(String newPassword) {
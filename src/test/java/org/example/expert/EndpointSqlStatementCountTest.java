@@ -0,0 +1,314 @@
+package org.example.expert;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.SqlStatementCountConfig;
+import org.example.expert.config.SqlStatementCounter;
+import org.example.expert.config.SqlStatementCounter.Capture;
+import org.example.expert.config.SqlStatementCounter.SqlAction;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.fixture.SeedDataset;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 엔드포인트별로 실행되는 SQL 문 수와 읽는 행 수를 고정합니다.
+// 쿼리가 하나라도 늘면(N+1, 누락된 fetch join, 불필요한 COUNT 등) 테스트가 실패하므로,
+// 의도한 변경이라면 실패 메시지의 SQL 목록을 확인한 뒤 기대값을 함께 수정해주세요.
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==",
+        "password.hash.cost=4",
+        "weather.snapshot.path=build/tmp/sql-count/weather-snapshot.txt",
+        "metrics.scrape.token=" + EndpointSqlStatementCountTest.SCRAPE_TOKEN
+})
+@AutoConfigureMockMvc
+@Import(SqlStatementCountConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointSqlStatementCountTest {
+
+    static final String SCRAPE_TOKEN = "test-scrape-token";
+
+    private static final long MISSING_TODO_ID = 1_000_000_000L;
+
+    private static final SeedDataset DATASET = SeedDataset.standard();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private String adminToken;
+    private String userToken;
+
+    @BeforeAll
+    void setUp() {
+        DATASET.insert(jdbcTemplate);
+        adminToken = jwtUtil.createToken(1L, SeedDataset.email(1), UserRole.ADMIN);
+        userToken = jwtUtil.createToken(2L, SeedDataset.email(2), UserRole.USER);
+    }
+
+    @Test
+    void 일정_목록은_페이지와_COUNT_두_번만_조회한다() throws Exception {
+        Capture capture = perform(get("/todos").param("size", "20").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        assertStatements(capture, 2, 21);
+    }
+
+    @Test
+    void 근사_개수_일정_목록은_COUNT를_실행하지_않는다() throws Exception {
+        // 캐시가 비어 있으면 첫 요청에서 개수를 채우므로 한 번 미리 호출합니다.
+        perform(get("/todos").header("X-Total-Count-Mode", "approximate").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        Capture capture = perform(get("/todos").param("size", "20")
+                .header("X-Total-Count-Mode", "approximate").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        assertStatements(capture, 1, 20);
+    }
+
+    @Test
+    void 커서_일정_목록은_한_번만_조회한다() throws Exception {
+        Capture capture = perform(get("/todos/scroll").param("size", "20").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        assertStatements(capture, 1, 21);
+    }
+
+    @Test
+    void 일정_단건은_버전과_본문을_조회한다() throws Exception {
+        Capture capture = perform(get("/todos/10").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        assertStatements(capture, 2, 2);
+    }
+
+    @Test
+    void 변경되지_않은_일정_단건은_버전만_조회한다() throws Exception {
+        String etag = mockMvc.perform(get("/todos/11").header(HttpHeaders.AUTHORIZATION, userToken))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Capture capture = perform(get("/todos/11").header(HttpHeaders.AUTHORIZATION, userToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag), status().isNotModified());
+
+        assertStatements(capture, 1, 1);
+    }
+
+    @Test
+    void 없는_일정의_댓글과_담당자는_조건부_요청이어도_ETag_없이_오류로_응답한다() throws Exception {
+        ResultMatcher notFoundWithoutEtag = result -> {
+            status().isBadRequest().match(result);
+            header().doesNotExist(HttpHeaders.ETAG).match(result);
+        };
+
+        Capture comments = perform(get("/todos/" + MISSING_TODO_ID + "/comments").header(HttpHeaders.AUTHORIZATION, userToken)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0.0.0\""), notFoundWithoutEtag);
+        Capture managers = perform(get("/todos/" + MISSING_TODO_ID + "/managers").header(HttpHeaders.AUTHORIZATION, userToken)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0.0\""), notFoundWithoutEtag);
+
+        assertStatements(comments, 1, 0);
+        assertStatements(managers, 1, 0);
+    }
+
+    @Test
+    void 일정_상세는_댓글_수와_무관하게_고정된_횟수로_조회한다() throws Exception {
+        Capture capture = perform(get("/todos/12/detail").param("commentSize", "20").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        assertStatements(capture, 6, 3 + 1 + DATASET.getManagersPerTodo() + 21 + 3);
+    }
+
+    @Test
+    void 댓글_목록은_작성자를_함께_조회한다() throws Exception {
+        Capture capture = perform(get("/todos/13/comments").param("size", "20").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        assertStatements(capture, 2, 1 + 21);
+    }
+
+    @Test
+    void 담당자_목록은_담당자를_함께_조회한다() throws Exception {
+        Capture capture = perform(get("/todos/14/managers").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        assertStatements(capture, 3, 1 + 1 + DATASET.getManagersPerTodo());
+    }
+
+    @Test
+    void 일정_등록은_일정과_작성자_담당자를_저장한다() throws Exception {
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+        Capture capture = perform(post("/todos").header(HttpHeaders.AUTHORIZATION, userToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"new\",\"contents\":\"contents\"}"));
+
+        assertStatements(capture, 2, 0);
+    }
+
+    @Test
+    void 댓글_등록은_일정_조회와_저장만_한다() throws Exception {
+        Capture capture = perform(post("/todos/15/comments").header(HttpHeaders.AUTHORIZATION, userToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"contents\":\"new comment\"}"));
+
+        assertStatements(capture, 2, 1);
+    }
+
+    @Test
+    void 담당자_등록은_일정과_사용자를_한_번씩_조회한다() throws Exception {
+        // 1번 사용자가 작성한 일정에 다른 사용자를 담당자로 등록합니다.
+        long todoId = 1 + DATASET.getUsers();
+        Capture capture = perform(post("/todos/" + todoId + "/managers").header(HttpHeaders.AUTHORIZATION, adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"managerUserId\":" + DATASET.getUsers() + "}"));
+
+        assertStatements(capture, 3, 2);
+    }
+
+    @Test
+    void 담당자_삭제는_사용자_일정_담당자를_한_번씩_조회한다() throws Exception {
+        // 1번 사용자가 작성한 일정의 두 번째 담당자를 삭제합니다.
+        long todoId = 1 + 2L * DATASET.getUsers();
+        long managerId = (todoId - 1) * DATASET.getManagersPerTodo() + 2;
+        Capture capture = perform(delete("/todos/" + todoId + "/managers/" + managerId).header(HttpHeaders.AUTHORIZATION, adminToken));
+
+        assertStatements(capture, 4, 3);
+    }
+
+    @Test
+    void 사용자_조회는_한_번만_조회한다() throws Exception {
+        Capture capture = perform(get("/users/3").header(HttpHeaders.AUTHORIZATION, userToken));
+
+        assertStatements(capture, 1, 1);
+    }
+
+    @Test
+    void 비밀번호_변경은_조회와_수정만_한다() throws Exception {
+        String token = jwtUtil.createToken(4L, SeedDataset.email(4), UserRole.USER);
+
+        Capture capture = perform(put("/users").header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"oldPassword\":\"" + SeedDataset.PASSWORD + "\",\"newPassword\":\"Password2\"}"));
+
+        assertStatements(capture, 2, 1);
+    }
+
+    @Test
+    void 회원가입은_중복_확인과_저장만_한다() throws Exception {
+        Capture capture = perform(post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"new@example.com\",\"password\":\"Password1\",\"userRole\":\"USER\"}"));
+
+        assertStatements(capture, 2, 1);
+    }
+
+    @Test
+    void 로그인은_사용자를_한_번만_조회한다() throws Exception {
+        Capture capture = perform(post("/auth/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + SeedDataset.email(5) + "\",\"password\":\"" + SeedDataset.PASSWORD + "\"}"));
+
+        assertStatements(capture, 1, 1);
+    }
+
+    @Test
+    void 권한_변경은_조회와_수정만_한다() throws Exception {
+        Capture capture = perform(patch("/admin/users/6").header(HttpHeaders.AUTHORIZATION, adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"ADMIN\"}"));
+
+        assertStatements(capture, 2, 1);
+    }
+
+    @Test
+    void 댓글_삭제는_조회와_삭제만_한다() throws Exception {
+        Capture capture = perform(delete("/admin/comments/100").header(HttpHeaders.AUTHORIZATION, adminToken));
+
+        assertStatements(capture, 2, 1);
+    }
+
+    @Test
+    void 감사_기록_목록은_한_번만_조회한다() throws Exception {
+        Capture capture = perform(get("/admin/audits").header(HttpHeaders.AUTHORIZATION, adminToken));
+
+        assertStatements(capture, 1, 21);
+    }
+
+    @Test
+    void 메트릭은_DB를_조회하지_않는다() throws Exception {
+        Capture capture = perform(get("/actuator/latency").header(HttpHeaders.AUTHORIZATION, "Bearer " + SCRAPE_TOKEN));
+
+        assertStatements(capture, 0, 0);
+    }
+
+    @Test
+    void 헬스_체크는_토큰_없이_조회할_수_있다() throws Exception {
+        perform(get("/actuator/health"));
+    }
+
+    @Test
+    void 메트릭은_토큰_없이_조회할_수_없다() throws Exception {
+        perform(get("/actuator/latency"), status().isUnauthorized());
+    }
+
+    @Test
+    void 메트릭은_사용자_JWT로_조회할_수_없고_감사_기록도_남기지_않는다() throws Exception {
+        Capture capture = perform(get("/actuator/latency").header(HttpHeaders.AUTHORIZATION, adminToken), status().isUnauthorized());
+
+        assertStatements(capture, 0, 0);
+    }
+
+    @Test
+    void 일정_내보내기는_전체_일정을_한_번의_조회로_읽는다() throws Exception {
+        Capture capture = perform(get("/admin/todos/export").header(HttpHeaders.AUTHORIZATION, adminToken));
+
+        assertStatements(capture, 1, Long.MAX_VALUE);
+    }
+
+    @Test
+    void 일정_가져오기는_청크마다_배치_INSERT를_한_번씩_실행한다() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            body.append("{\"title\":\"imported ").append(i).append("\",\"userId\":1,\"comments\":[{\"contents\":\"c\",\"userId\":2}]}\n");
+        }
+
+        Capture capture = perform(post("/admin/todos/import").header(HttpHeaders.AUTHORIZATION, adminToken)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body.toString()));
+
+        assertStatements(capture, 3, 0);
+    }
+
+    private Capture perform(MockHttpServletRequestBuilder request) throws Exception {
+        return perform(request, status().isOk());
+    }
+
+    private Capture perform(MockHttpServletRequestBuilder request, ResultMatcher expectedStatus) throws Exception {
+        SqlAction action = () -> mockMvc.perform(request).andExpect(expectedStatus);
+        return sqlStatementCounter.capture(action);
+    }
+
+    private static void assertStatements(Capture capture, int expectedStatements, long maxRows) {
+        assertEquals(expectedStatements, capture.getStatementCount(), () -> "실행된 SQL 문 수가 다릅니다: " + capture);
+        assertTrue(capture.getRowCount() <= maxRows, () -> "읽은 행 수가 " + maxRows + "개를 넘었습니다: " + capture);
+    }
+}
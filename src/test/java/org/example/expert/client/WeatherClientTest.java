@@ -0,0 +1,163 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class WeatherClientTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherTransport weatherTransport;
+    private WeatherSnapshotStore snapshotStore;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        weatherTransport = mock(WeatherTransport.class);
+        snapshotStore = new WeatherSnapshotStore(tempDir.resolve("weather-snapshot.txt").toString());
+        weatherClient = new WeatherClient(weatherTransport, snapshotStore, meterRegistry);
+    }
+
+    @Test
+    void 같은_날에는_원격_호출을_한번만_한다() {
+        // given
+        given(weatherTransport.fetch()).willReturn(todayWeather("Sunny"));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals(1, meterRegistry.counter("weather.cache", "result", "miss").count());
+        assertEquals(1, meterRegistry.counter("weather.cache", "result", "hit").count());
+        verify(weatherTransport, times(1)).fetch();
+    }
+
+    @Test
+    void 동시_요청은_하나의_원격_호출을_공유한다() throws Exception {
+        // given
+        CountDownLatch fetching = new CountDownLatch(1);
+        given(weatherTransport.fetch()).willAnswer(invocation -> {
+            fetching.await();
+            return todayWeather("Cloudy");
+        });
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> weatherClient.getTodayWeather()));
+        }
+        Thread.sleep(100);
+        fetching.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Cloudy", result.get());
+        }
+        executor.shutdown();
+        verify(weatherTransport, times(1)).fetch();
+    }
+
+    @Test
+    void 실패한_응답은_캐시하지_않는다() {
+        // given
+        given(weatherTransport.fetch())
+                .willThrow(new ServerException("날씨 데이터를 가져오는데 실패했습니다."))
+                .willReturn(todayWeather("Rainy"));
+
+        // when & then
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertEquals("Rainy", weatherClient.getTodayWeather());
+        verify(weatherTransport, times(2)).fetch();
+    }
+
+    @Test
+    void 자정_갱신은_원격_데이터를_다시_가져온다() {
+        // given
+        given(weatherTransport.fetch())
+                .willReturn(todayWeather("Sunny"))
+                .willReturn(todayWeather("Snowy"));
+        weatherClient.getTodayWeather();
+
+        // when
+        weatherClient.refreshTodayWeather();
+
+        // then
+        assertEquals("Snowy", weatherClient.getTodayWeather());
+        assertEquals(1, meterRegistry.counter("weather.cache", "result", "refresh").count());
+    }
+
+    @Test
+    void 오늘_날짜의_데이터가_없으면_예외가_발생한다() {
+        // given
+        String otherDate = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("MM-dd"));
+        given(weatherTransport.fetch()).willReturn(new WeatherDto[]{new WeatherDto(otherDate, "Sunny")});
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertEquals("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 원격_응답을_받으면_스냅샷을_저장한다() {
+        // given
+        given(weatherTransport.fetch()).willReturn(todayWeather("Sunny"));
+
+        // when
+        weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", snapshotStore.load().orElseThrow().get(LocalDate.now()));
+    }
+
+    @Test
+    void 스냅샷이_있으면_기동_후_원격_호출_없이_응답한다() throws Exception {
+        // given
+        given(weatherTransport.fetch()).willReturn(todayWeather("Windy"));
+        weatherClient.getTodayWeather();
+
+        WeatherTransport restartedTransport = mock(WeatherTransport.class);
+
+        // when
+        WeatherClient restartedClient = new WeatherClient(restartedTransport, snapshotStore, meterRegistry);
+
+        // then
+        assertEquals("Windy", restartedClient.getTodayWeather());
+        assertFalse(Files.list(tempDir).anyMatch(path -> path.toString().endsWith(".tmp")));
+        verify(restartedTransport, never()).fetch();
+    }
+
+    private WeatherDto[] todayWeather(String weather) {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        return new WeatherDto[]{new WeatherDto(today, weather)};
+    }
+}
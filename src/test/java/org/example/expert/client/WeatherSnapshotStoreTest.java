@@ -0,0 +1,56 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherSnapshotStoreTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void 저장한_스냅샷을_그대로_읽어온다() {
+        // given
+        WeatherSnapshotStore store = new WeatherSnapshotStore(tempDir.resolve("snapshot/weather.txt").toString());
+        WeatherTable table = WeatherTable.from(new WeatherDto[]{
+                new WeatherDto("01-01", "Sunny"),
+                new WeatherDto("02-29", "Snowy"),
+                new WeatherDto("12-31", "Cloudy")
+        });
+
+        // when
+        store.save(table);
+        WeatherTable loaded = store.load().orElseThrow();
+
+        // then
+        assertEquals("Sunny", loaded.get(LocalDate.of(2025, 1, 1)));
+        assertEquals("Snowy", loaded.get(LocalDate.of(2024, 2, 29)));
+        assertEquals("Cloudy", loaded.get(LocalDate.of(2025, 12, 31)));
+        assertNull(loaded.get(LocalDate.of(2025, 6, 1)));
+    }
+
+    @Test
+    void 스냅샷_파일이_없거나_손상되면_비어있는_결과를_반환한다() throws Exception {
+        // given
+        Path path = tempDir.resolve("weather.txt");
+        WeatherSnapshotStore store = new WeatherSnapshotStore(path.toString());
+        Optional<WeatherTable> missing = store.load();
+
+        Files.writeString(path, "Sunny\nCloudy\n");
+
+        // when
+        Optional<WeatherTable> corrupted = store.load();
+
+        // then
+        assertTrue(missing.isEmpty());
+        assertTrue(corrupted.isEmpty());
+    }
+}
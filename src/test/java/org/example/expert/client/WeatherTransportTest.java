@@ -0,0 +1,195 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 지연과 오류를 주입할 수 있는 로컬 HTTP 서버로 호출 시간 상한과 서킷 브레이커 동작을 확인합니다.
+class WeatherTransportTest {
+
+    private static final String BODY = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"}]";
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    // 요청마다 꺼내 쓰는 응답 시나리오. 비어 있으면 즉시 200 응답합니다.
+    private final Queue<StubResponse> scenario = new ConcurrentLinkedQueue<>();
+    private WeatherTransport transport;
+
+    private record StubResponse(long delayMs, int status) {
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            StubResponse response = scenario.poll();
+            if (response == null) {
+                response = new StubResponse(0, 200);
+            }
+            try {
+                Thread.sleep(response.delayMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = response.status() == 200 ? BODY.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+                outputStream.write(body);
+            } catch (Exception ignored) {
+                // 클라이언트가 먼저 연결을 끊은 경우
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        transport.close();
+        server.stop(0);
+    }
+
+    @Test
+    void 정상_응답을_파싱한다() {
+        // given
+        transport = createTransport(properties());
+
+        // when
+        WeatherDto[] weatherArray = transport.fetch();
+
+        // then
+        assertEquals(1, weatherArray.length);
+        assertEquals("Sunny", weatherArray[0].getWeather());
+    }
+
+    @Test
+    void 느린_응답은_호출_시간_상한에서_끊긴다() {
+        // given
+        WeatherHttpProperties properties = properties();
+        properties.setReadTimeoutMs(5_000);
+        properties.setDeadlineMs(300);
+        transport = createTransport(properties);
+        scenario.add(new StubResponse(2_000, 200));
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(ServerException.class, () -> transport.fetch());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertTrue(elapsedMs < 1_000, "elapsed " + elapsedMs + "ms");
+    }
+
+    @Test
+    void 시간_상한을_넘긴_호출은_실행_슬롯과_커넥션을_바로_돌려준다() throws Exception {
+        // given
+        WeatherHttpProperties properties = properties();
+        properties.setMaxConnections(1);
+        properties.setReadTimeoutMs(5_000);
+        properties.setDeadlineMs(300);
+        transport = createTransport(properties);
+        scenario.add(new StubResponse(3_000, 200));
+        assertThrows(ServerException.class, () -> transport.fetch());
+        Thread.sleep(100);
+
+        // when
+        WeatherDto[] weatherArray = transport.fetch();
+
+        // then
+        assertEquals("Sunny", weatherArray[0].getWeather());
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 실패율이_임계치를_넘으면_원격_호출_없이_바로_실패한다() {
+        // given
+        WeatherHttpProperties properties = properties();
+        properties.setCircuitWindowSize(4);
+        properties.setCircuitMinimumCalls(4);
+        transport = createTransport(properties);
+        for (int i = 0; i < 4; i++) {
+            scenario.add(new StubResponse(0, 500));
+        }
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ServerException.class, () -> transport.fetch());
+        }
+        ServerException exception = assertThrows(ServerException.class, () -> transport.fetch());
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, transport.getCircuitState());
+        assertEquals("날씨 API 장애로 호출이 일시적으로 차단되었습니다.", exception.getMessage());
+        assertEquals(4, requestCount.get());
+    }
+
+    @Test
+    void 첫_요청이_늦어지면_헤지_요청의_응답을_사용한다() {
+        // given
+        WeatherHttpProperties properties = properties();
+        properties.setHedgeEnabled(true);
+        properties.setHedgeInitialDelayMs(100);
+        properties.setDeadlineMs(3_000);
+        properties.setReadTimeoutMs(5_000);
+        transport = createTransport(properties);
+        scenario.add(new StubResponse(2_000, 200));
+
+        // when
+        long start = System.nanoTime();
+        WeatherDto[] weatherArray = transport.fetch();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertEquals("Sunny", weatherArray[0].getWeather());
+        assertTrue(elapsedMs < 1_000, "elapsed " + elapsedMs + "ms");
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 헤지_지연은_최근_응답_시간의_p95를_따른다() {
+        // given
+        WeatherHttpProperties properties = properties();
+        properties.setHedgeEnabled(true);
+        properties.setHedgeMinDelayMs(1);
+        transport = createTransport(properties);
+        long initialDelay = transport.hedgeDelayMillis();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            scenario.add(new StubResponse(30, 200));
+            transport.fetch();
+        }
+
+        // then
+        assertEquals(properties.getHedgeInitialDelayMs(), initialDelay);
+        assertTrue(transport.hedgeDelayMillis() >= 30);
+        assertTrue(transport.hedgeDelayMillis() < properties.getHedgeInitialDelayMs());
+    }
+
+    private WeatherHttpProperties properties() {
+        WeatherHttpProperties properties = new WeatherHttpProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        return properties;
+    }
+
+    private WeatherTransport createTransport(WeatherHttpProperties properties) {
+        return new WeatherTransport(properties, Jackson2ObjectMapperBuilder.json().build(), new SimpleMeterRegistry(), false);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class ConnectionMetricsDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        ConnectionUsage.end();
+    }
+
+    @Test
+    void 커넥션_acquire와_hold_시간을_요청_단위로_기록한다() throws Exception {
+        // given
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        given(target.getConnection()).willReturn(connection);
+        ConnectionMetricsDataSource dataSource = new ConnectionMetricsDataSource(target, "primary", meterRegistry);
+        ConnectionUsage usage = ConnectionUsage.begin();
+
+        // when
+        Connection acquired = dataSource.getConnection();
+        Thread.sleep(20);
+        acquired.close();
+        acquired.close();
+
+        // then
+        verify(connection, times(2)).close();
+        assertEquals(1, usage.getConnections());
+        assertTrue(usage.getHoldNanos() >= 20_000_000L);
+        assertEquals(1, meterRegistry.timer("db.connection.acquire", "pool", "primary").count());
+        assertEquals(1, meterRegistry.timer("db.connection.hold", "pool", "primary").count());
+    }
+
+    @Test
+    void 요청_밖에서_얻은_커넥션도_전체_지표에는_기록한다() throws Exception {
+        // given
+        DataSource target = mock(DataSource.class);
+        given(target.getConnection()).willReturn(mock(Connection.class));
+        ConnectionMetricsDataSource dataSource = new ConnectionMetricsDataSource(target, "primary", meterRegistry);
+
+        // when
+        Connection acquired = dataSource.getConnection();
+        acquired.close();
+
+        // then
+        assertNull(ConnectionUsage.current());
+        assertSame(acquired, acquired.unwrap(Connection.class));
+        assertEquals(1, meterRegistry.timer("db.connection.hold", "pool", "primary").count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 라우팅_모드의_지연_프록시는_감싸지_않고_풀만_감싼다() {
+        // given
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        given(meterRegistryProvider.getObject()).willReturn(meterRegistry);
+        BeanPostProcessor postProcessor = DataSourceMetricsConfig.connectionMetricsPostProcessor(meterRegistryProvider);
+        DataSource pool = mock(DataSource.class);
+        LazyConnectionDataSourceProxy lazyProxy = new LazyConnectionDataSourceProxy(pool);
+
+        // when
+        Object wrappedPool = postProcessor.postProcessAfterInitialization(pool, "dataSource");
+        Object wrappedProxy = postProcessor.postProcessAfterInitialization(lazyProxy, "dataSource");
+
+        // then
+        assertInstanceOf(ConnectionMetricsDataSource.class, wrappedPool);
+        assertSame(lazyProxy, wrappedProxy);
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtCodecTest {
+
+    private static final String SECRET = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+
+    private final Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+    private final JwtCodec jwtCodec = new JwtCodec(key);
+
+    @Test
+    void jjwt_빌더와_같은_토큰을_만든다() {
+        // given
+        long issuedAt = 1_700_000_000_123L;
+        long expiresAt = issuedAt + 60 * 60 * 1000L;
+
+        for (String email : new String[]{"user@example.com", "quote\"back\\slash@example.com", "한글@example.com", "tab\t@example.com"}) {
+            // when
+            String expected = jjwtToken(7L, email, UserRole.ADMIN, issuedAt, expiresAt);
+            String actual = jwtCodec.encode(7L, email, UserRole.ADMIN, issuedAt, expiresAt);
+
+            // then
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void jjwt가_만든_토큰을_검증한다() {
+        // given
+        long issuedAt = System.currentTimeMillis();
+        String token = jjwtToken(3L, "한글\"@example.com", UserRole.USER, issuedAt, issuedAt + 60_000);
+
+        // when
+        VerifiedToken verified = jwtCodec.decode(token, issuedAt);
+
+        // then
+        assertEquals(3L, verified.getUserId());
+        assertEquals("한글\"@example.com", verified.getEmail());
+        assertEquals(UserRole.USER, verified.getUserRole());
+        assertEquals((issuedAt + 60_000) / 1000 * 1000, verified.getExpiresAtMillis());
+    }
+
+    @Test
+    void 서명이_다르면_SignatureException을_던진다() {
+        // given
+        long now = System.currentTimeMillis();
+        String token = jwtCodec.encode(1L, "a@a.com", UserRole.USER, now, now + 60_000);
+        Key otherKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET.replace('7', '8')));
+        String forged = new JwtCodec(otherKey).encode(1L, "a@a.com", UserRole.ADMIN, now, now + 60_000);
+        String tampered = forged.substring(0, forged.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+
+        // when & then
+        assertThrows(SignatureException.class, () -> jwtCodec.decode(forged, now));
+        assertThrows(SignatureException.class, () -> jwtCodec.decode(tampered, now));
+    }
+
+    @Test
+    void 만료된_토큰은_ExpiredJwtException을_던진다() {
+        // given
+        long issuedAt = System.currentTimeMillis() - 120_000;
+        String token = jwtCodec.encode(1L, "a@a.com", UserRole.USER, issuedAt, issuedAt + 60_000);
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> jwtCodec.decode(token, System.currentTimeMillis()));
+    }
+
+    @Test
+    void 다른_형식의_토큰은_null을_반환해_jjwt_파서에_맡긴다() {
+        // given
+        long now = System.currentTimeMillis();
+        String withExtraClaim = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "a@a.com")
+                .claim("userRole", UserRole.USER)
+                .claim("scope", "extra")
+                .setExpiration(new Date(now + 60_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        String otherAlgorithm = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(now + 60_000))
+                .signWith(Keys.hmacShaKeyFor(new byte[48]), SignatureAlgorithm.HS384)
+                .compact();
+
+        // when & then
+        assertNull(jwtCodec.decode(withExtraClaim, now));
+        assertNull(jwtCodec.decode(otherAlgorithm, now));
+    }
+
+    private String jjwtToken(Long userId, String email, UserRole userRole, long issuedAt, long expiresAt) {
+        return Jwts.builder()
+                .setSubject(String.valueOf(userId))
+                .claim("email", email)
+                .claim("userRole", userRole)
+                .setExpiration(new Date(expiresAt))
+                .setIssuedAt(new Date(issuedAt))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.expert.config;
+
+import org.example.expert.config.LatencyHistograms.MethodLatency;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.EmptyTargetSource;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramsTest {
+
+    private final LatencyHistograms latencyHistograms = new LatencyHistograms();
+
+    @Test
+    void 같은_메서드는_같은_기록기를_사용한다() throws Exception {
+        // given
+        Method method = SampleService.class.getMethod("work");
+        SampleService target = new SampleService();
+
+        // when
+        MethodLatency first = latencyHistograms.get("service", target, method);
+        MethodLatency second = latencyHistograms.get("service", target, method);
+
+        // then
+        assertSame(first, second);
+        assertEquals("SampleService", first.getType());
+        assertEquals("work", first.getMethod());
+    }
+
+    @Test
+    void 리포지토리_프록시는_애플리케이션_인터페이스_이름으로_기록한다() throws Exception {
+        // given
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.addInterface(TodoRepository.class);
+        proxyFactory.setTargetSource(EmptyTargetSource.INSTANCE);
+        Object proxy = proxyFactory.getProxy();
+
+        // when
+        MethodLatency latency = latencyHistograms.get("repository", proxy, TodoRepository.class.getMethod("count"));
+
+        // then
+        assertEquals("TodoRepository", latency.getType());
+    }
+
+    @Test
+    void 닫힌_구간의_분위수와_누적_횟수를_출력한다() throws Exception {
+        // given
+        MethodLatency latency = latencyHistograms.get("service", new SampleService(), SampleService.class.getMethod("work"));
+        for (int i = 1; i <= 1000; i++) {
+            latency.record(i * 1_000L);
+        }
+
+        // when
+        String beforeRotate = latencyHistograms.scrape();
+        latencyHistograms.rotate();
+        String afterRotate = latencyHistograms.scrape();
+
+        // then
+        String labels = "{layer=\"service\",class=\"SampleService\",method=\"work\"";
+        assertTrue(beforeRotate.contains("app_method_latency_seconds" + labels + ",quantile=\"0.99\"} NaN\n"));
+        assertTrue(afterRotate.contains("# TYPE app_method_latency_seconds summary\n"));
+        assertTrue(afterRotate.contains("app_method_latency_seconds_count" + labels + "} 1000\n"));
+        assertEquals(0.5005, valueOf(afterRotate, "app_method_latency_seconds_sum" + labels + "}"), 1e-9);
+        assertEquals(0.0005, valueOf(afterRotate, "app_method_latency_seconds" + labels + ",quantile=\"0.5\"}"), 0.0005 * 0.01);
+        assertEquals(0.00099, valueOf(afterRotate, "app_method_latency_seconds" + labels + ",quantile=\"0.99\"}"), 0.00099 * 0.01);
+        assertEquals(0.001, valueOf(afterRotate, "app_method_latency_max_seconds" + labels + "}"), 0.001 * 0.01);
+    }
+
+    @Test
+    void 다음_구간에는_새로_기록된_값만_반영한다() throws Exception {
+        // given
+        MethodLatency latency = latencyHistograms.get("service", new SampleService(), SampleService.class.getMethod("work"));
+        latency.record(5_000_000L);
+        latencyHistograms.rotate();
+        latency.record(1_000L);
+
+        // when
+        latencyHistograms.rotate();
+        String output = latencyHistograms.scrape();
+
+        // then
+        String labels = "{layer=\"service\",class=\"SampleService\",method=\"work\"";
+        assertEquals(0.000001, valueOf(output, "app_method_latency_max_seconds" + labels + "}"), 0.000001 * 0.01);
+        assertTrue(output.contains("app_method_latency_seconds_count" + labels + "} 2\n"));
+    }
+
+    private double valueOf(String output, String series) {
+        for (String line : output.split("\n")) {
+            if (line.startsWith(series + " ")) {
+                return Double.parseDouble(line.substring(series.length() + 1));
+            }
+        }
+        throw new AssertionError("시리즈가 없습니다: " + series);
+    }
+
+    static class SampleService {
+        public void work() {
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyTimingAspectTest {
+
+    private final LatencyHistograms latencyHistograms = new LatencyHistograms();
+
+    @Test
+    void 서비스_메서드_실행_시간을_기록한다() {
+        // given
+        SampleService service = proxy(new SampleService());
+
+        // when
+        service.work();
+        service.work();
+
+        // then
+        assertTrue(latencyHistograms.scrape().contains(
+                "app_method_latency_seconds_count{layer=\"service\",class=\"SampleService\",method=\"work\"} 2\n"));
+    }
+
+    @Test
+    void 예외가_발생해도_실행_시간을_기록한다() {
+        // given
+        SampleService service = proxy(new SampleService());
+
+        // when & then
+        assertThrows(IllegalStateException.class, service::fail);
+        assertTrue(latencyHistograms.scrape().contains(
+                "app_method_latency_seconds_count{layer=\"service\",class=\"SampleService\",method=\"fail\"} 1\n"));
+    }
+
+    private SampleService proxy(SampleService target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LatencyTimingAspect(latencyHistograms));
+        return proxyFactory.getProxy();
+    }
+
+    @Service
+    static class SampleService {
+        public void work() {
+        }
+
+        public void fail() {
+            throw new IllegalStateException("실패");
+        }
+    }
+}
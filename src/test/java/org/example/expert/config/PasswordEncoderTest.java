@@ -1,18 +1,29 @@
 package org.example.expert.config;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
+    private PasswordHashExecutor passwordHashExecutor;
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        passwordHashExecutor = new PasswordHashExecutor(new SimpleMeterRegistry(), 2, 8, 5000);
+        passwordEncoder = new PasswordEncoder(passwordHashExecutor, BCrypt.MIN_COST);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashExecutor.shutdown();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -25,4 +36,48 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 비밀번호가_다르면_matches가_false를_반환한다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when
+        boolean matches = passwordEncoder.matches("wrongPassword", encodedPassword);
+
+        // then
+        assertFalse(matches);
+    }
+
+    @Test
+    void 현재_cost와_다른_해시는_재해시가_필요하다() {
+        // given
+        String currentHash = passwordEncoder.encode("testPassword");
+        String olderHash = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST + 1, "testPassword".toCharArray());
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(currentHash));
+        assertTrue(passwordEncoder.needsRehash(olderHash));
+        assertTrue(passwordEncoder.needsRehash("plain-text"));
+    }
+
+    @Test
+    void 해시_문자열에서_cost를_읽는다() {
+        // when & then
+        assertEquals(10, PasswordEncoder.costOf("$2a$10$abcdefghijklmnopqrstuv"));
+        assertEquals(4, PasswordEncoder.costOf("$2b$04$abcdefghijklmnopqrstuv"));
+        assertEquals(-1, PasswordEncoder.costOf("$2a$x1$abcdefghijklmnopqrstuv"));
+        assertEquals(-1, PasswordEncoder.costOf(null));
+    }
+
+    @Test
+    void 보정된_cost는_최소값과_최대값_사이에_있다() {
+        // when
+        int noBudget = PasswordEncoder.calibrateCost(0, 12);
+        int capped = PasswordEncoder.calibrateCost(Long.MAX_VALUE, BCrypt.MIN_COST + 1);
+
+        // then
+        assertEquals(BCrypt.MIN_COST, noBudget);
+        assertTrue(capped >= BCrypt.MIN_COST && capped <= BCrypt.MIN_COST + 1);
+    }
 }
@@ -0,0 +1,85 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 작업_결과를_호출자에게_반환하고_대기_및_해시_시간을_기록한다() {
+        // given
+        executor = new PasswordHashExecutor(meterRegistry, 1, 1, 1000);
+
+        // when
+        String result = executor.execute(() -> "hashed");
+
+        // then
+        assertEquals("hashed", result);
+        assertEquals(1, meterRegistry.get("password.hash.wait").timer().count());
+        assertEquals(1, meterRegistry.get("password.hash.time").timer().count());
+    }
+
+    @Test
+    void 대기열이_가득_차면_즉시_ServiceUnavailableException을_던진다() throws Exception {
+        // given
+        executor = new PasswordHashExecutor(meterRegistry, 1, 1, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "second"));
+        while (executor.getQueueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> executor.execute(() -> "third"));
+
+        // then
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+        release.countDown();
+        assertEquals("first", running.get(1, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 작업에서_발생한_예외는_그대로_전달된다() {
+        // given
+        executor = new PasswordHashExecutor(meterRegistry, 1, 1, 1000);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> executor.execute(() -> {
+            throw new IllegalArgumentException("invalid hash");
+        }));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
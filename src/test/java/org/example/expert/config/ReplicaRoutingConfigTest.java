@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 라우팅 모드에서도 spring.datasource.hikari.* 풀 설정이 primary와 replica 풀에 적용되는지 확인합니다.
+class ReplicaRoutingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfig.class, ReplicaRoutingConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues(
+                    "datasource.routing.enabled=true",
+                    "spring.datasource.url=jdbc:h2:mem:routing-primary",
+                    "spring.datasource.hikari.maximum-pool-size=3",
+                    "spring.datasource.hikari.connection-timeout=1234",
+                    "datasource.routing.replicas[0].url=jdbc:h2:mem:routing-replica-0",
+                    "datasource.routing.replicas[1].url=jdbc:h2:mem:routing-replica-1",
+                    "datasource.routing.replicas[1].hikari.maximum-pool-size=7"
+            );
+
+    @Configuration
+    @EnableConfigurationProperties({DataSourceProperties.class, ReplicaRoutingProperties.class})
+    static class PropertiesConfig {
+    }
+
+    @Test
+    void hikari_풀_설정을_primary와_replica에_적용한다() {
+        contextRunner.run(context -> {
+            // when
+            List<HikariDataSource> pools = context.getBean(ReplicaRoutingConfig.class).getPools();
+
+            // then
+            HikariDataSource primary = pools.get(0);
+            assertEquals("primary", primary.getPoolName());
+            assertEquals(3, primary.getMaximumPoolSize());
+            assertEquals(1234, primary.getConnectionTimeout());
+
+            HikariDataSource inherited = pools.get(1);
+            assertEquals("replica-0", inherited.getPoolName());
+            assertEquals(3, inherited.getMaximumPoolSize());
+            assertEquals(1234, inherited.getConnectionTimeout());
+
+            HikariDataSource overridden = pools.get(2);
+            assertEquals("replica-1", overridden.getPoolName());
+            assertEquals(7, overridden.getMaximumPoolSize());
+        });
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// primary와 replica 역할의 H2 두 개에 서로 다른 값을 넣고, 어느 쪽에서 읽었는지로 라우팅을 확인합니다.
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replication_lag";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica-0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica로_나머지는_primary로_보낸다() {
+        // given
+        ReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica), null);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transaction(dataSource, true);
+        TransactionTemplate readWrite = transaction(dataSource, false);
+
+        // when & then
+        assertEquals("replica-0", readOnly.execute(status -> whoAmI(jdbcTemplate)));
+        assertEquals("primary", readWrite.execute(status -> whoAmI(jdbcTemplate)));
+        assertEquals("primary", whoAmI(jdbcTemplate));
+        assertEquals(1, meterRegistry.counter("db.routing", "target", "replica-0").count());
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica를_번갈아_사용한다() {
+        // given
+        EmbeddedDatabase second = database("replica-1");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica);
+        replicas.put("replica-1", second);
+        ReplicaRoutingDataSource routing = routing(replicas, null);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transaction(dataSource, true);
+
+        // when & then
+        try {
+            assertEquals("replica-0", readOnly.execute(status -> whoAmI(jdbcTemplate)));
+            assertEquals("replica-1", readOnly.execute(status -> whoAmI(jdbcTemplate)));
+            assertEquals("replica-0", readOnly.execute(status -> whoAmI(jdbcTemplate)));
+        } finally {
+            second.shutdown();
+        }
+    }
+
+    @Test
+    void 복제_지연이_한도를_넘으면_primary에서_읽고_회복되면_다시_replica로_보낸다() {
+        // given
+        ReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica), LAG_QUERY);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = transaction(dataSource, true);
+        new JdbcTemplate(replica).update("UPDATE replication_lag SET seconds = 30");
+
+        // when
+        routing.checkReplicas();
+
+        // then
+        assertFalse(routing.isAvailable("replica-0"));
+        assertEquals("primary", readOnly.execute(status -> whoAmI(jdbcTemplate)));
+        assertEquals(1, meterRegistry.counter("db.routing.fallback").count());
+        assertEquals(30, meterRegistry.get("db.replica.lag").tag("target", "replica-0").gauge().value());
+
+        // when
+        new JdbcTemplate(replica).update("UPDATE replication_lag SET seconds = 1");
+        routing.checkReplicas();
+
+        // then
+        assertTrue(routing.isAvailable("replica-0"));
+        assertEquals("replica-0", readOnly.execute(status -> whoAmI(jdbcTemplate)));
+    }
+
+    @Test
+    void 복제가_멈춰_지연을_알_수_없으면_사용하지_않는다() {
+        // given
+        ReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica), LAG_QUERY);
+        new JdbcTemplate(replica).update("UPDATE replication_lag SET seconds = NULL");
+
+        // when
+        routing.checkReplicas();
+
+        // then
+        assertFalse(routing.isAvailable("replica-0"));
+    }
+
+    @Test
+    void 커넥션을_얻지_못하는_replica는_제외한다() throws Exception {
+        // given
+        DataSource broken = mock(DataSource.class);
+        given(broken.getConnection()).willThrow(new SQLException("connection refused"));
+        ReplicaRoutingDataSource routing = routing(Map.of("replica-0", broken), null);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // when
+        routing.checkReplicas();
+
+        // then
+        assertFalse(routing.isAvailable("replica-0"));
+        assertEquals(0, meterRegistry.get("db.replica.available").tag("target", "replica-0").gauge().value());
+        assertEquals("primary", transaction(dataSource, true).execute(status -> whoAmI(jdbcTemplate)));
+    }
+
+    private ReplicaRoutingDataSource routing(Map<String, DataSource> replicas, String lagQuery) {
+        return new ReplicaRoutingDataSource(primary, replicas, meterRegistry, lagQuery, 5, 1);
+    }
+
+    // 운영과 같이 트랜잭션 매니저와 JdbcTemplate이 같은 LazyConnectionDataSourceProxy를 사용합니다.
+    private static TransactionTemplate transaction(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate;
+    }
+
+    private static String whoAmI(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE replication_lag (seconds BIGINT)");
+        jdbcTemplate.update("INSERT INTO replication_lag VALUES (0)");
+        return database;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScrapeTokenFilterTest {
+
+    @Test
+    void 토큰이_없어도_health는_통과시킨다() throws Exception {
+        // given
+        ScrapeTokenFilter filter = new ScrapeTokenFilter("");
+
+        // when
+        MockFilterChain health = filter(filter, "/actuator/health", null);
+        MockFilterChain readiness = filter(filter, "/actuator/health/readiness", null);
+
+        // then
+        assertNotNull(health.getRequest());
+        assertNotNull(readiness.getRequest());
+    }
+
+    @Test
+    void 토큰이_설정되지_않았으면_latency를_거절한다() throws Exception {
+        // given
+        ScrapeTokenFilter filter = new ScrapeTokenFilter("");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        MockFilterChain chain = filter(filter, "/actuator/latency", null, response);
+
+        // then
+        assertNull(chain.getRequest());
+        assertEquals(403, response.getStatus());
+    }
+
+    @Test
+    void 설정된_토큰과_같을_때만_latency를_통과시킨다() throws Exception {
+        // given
+        ScrapeTokenFilter filter = new ScrapeTokenFilter("scrape-token");
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        MockHttpServletResponse wrong = new MockHttpServletResponse();
+
+        // when
+        MockFilterChain missingChain = filter(filter, "/actuator/latency", null, missing);
+        MockFilterChain wrongChain = filter(filter, "/actuator/latency", "Bearer other-token", wrong);
+        MockFilterChain validChain = filter(filter, "/actuator/latency", "Bearer scrape-token");
+
+        // then
+        assertNull(missingChain.getRequest());
+        assertEquals(401, missing.getStatus());
+        assertNull(wrongChain.getRequest());
+        assertEquals(401, wrong.getStatus());
+        assertNotNull(validChain.getRequest());
+    }
+
+    private MockFilterChain filter(ScrapeTokenFilter filter, String uri, String authorization) throws Exception {
+        return filter(filter, uri, authorization, new MockHttpServletResponse());
+    }
+
+    private MockFilterChain filter(ScrapeTokenFilter filter, String uri, String authorization,
+                                   MockHttpServletResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return chain;
+    }
+}
@@ -0,0 +1,199 @@
+package org.example.expert.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 테스트용: DataSource를 감싸 capture 구간 동안 실행된 SQL 문 수와 읽은 행 수를 셉니다.
+// Hibernate와 JdbcTemplate 모두 같은 커넥션을 쓰므로 둘 다 집계되며, executeBatch는 왕복 한 번으로 셉니다.
+// 스케줄러 스레드(scheduling-*)에서 실행된 SQL은 요청과 무관하므로 제외합니다.
+public class SqlStatementCounter {
+
+    private static final String SCHEDULER_THREAD_PREFIX = "scheduling-";
+
+    private volatile Capture current;
+
+    public interface SqlAction {
+        void run() throws Exception;
+    }
+
+    public DataSource wrap(DataSource dataSource) {
+        return new CountingDataSource(dataSource);
+    }
+
+    public Capture capture(SqlAction action) throws Exception {
+        Capture capture = new Capture();
+        current = capture;
+        try {
+            action.run();
+        } finally {
+            current = null;
+        }
+        return capture;
+    }
+
+    private Capture active() {
+        Capture capture = current;
+        if (capture == null || Thread.currentThread().getName().startsWith(SCHEDULER_THREAD_PREFIX)) {
+            return null;
+        }
+        return capture;
+    }
+
+    public static class Capture {
+
+        private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong rows = new AtomicLong();
+
+        public int getStatementCount() {
+            return statements.size();
+        }
+
+        public long getRowCount() {
+            return rows.get();
+        }
+
+        public List<String> getStatements() {
+            synchronized (statements) {
+                return List.copyOf(statements);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getStatementCount() + " statements, " + getRowCount() + " rows\n  " + String.join("\n  ", getStatements());
+        }
+    }
+
+    private final class CountingDataSource extends DelegatingDataSource {
+
+        private CountingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, obtainTargetDataSource().getConnection(), new ConnectionHandler());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, obtainTargetDataSource().getConnection(username, password), new ConnectionHandler());
+        }
+    }
+
+    private abstract static class DelegatingHandler<T> implements InvocationHandler {
+
+        T target;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "unwrap" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                }
+                case "isWrapperFor" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+
+            try {
+                return handle(method, args, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        abstract Object handle(Method method, Object[] args, Object result);
+    }
+
+    private final class ConnectionHandler extends DelegatingHandler<Connection> {
+
+        @Override
+        Object handle(Method method, Object[] args, Object result) {
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, (Statement) result, new StatementHandler(null));
+                case "prepareStatement" -> proxy(PreparedStatement.class, (PreparedStatement) result, new StatementHandler((String) args[0]));
+                case "prepareCall" -> proxy(CallableStatement.class, (CallableStatement) result, new StatementHandler((String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler extends DelegatingHandler<Statement> {
+
+        private final String preparedSql;
+        private String batchSql;
+
+        private StatementHandler(String preparedSql) {
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args, Object result) {
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args.length == 1) {
+                batchSql = (String) args[0];
+            }
+            if (name.startsWith("execute")) {
+                Capture capture = active();
+                if (capture != null) {
+                    capture.statements.add(sqlOf(name, args));
+                }
+            }
+            if (result instanceof ResultSet resultSet && (name.equals("executeQuery") || name.equals("getResultSet"))) {
+                return proxy(ResultSet.class, resultSet, new ResultSetHandler());
+            }
+            return result;
+        }
+
+        private String sqlOf(String name, Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                return sql;
+            }
+            String sql = preparedSql != null ? preparedSql : batchSql;
+            return name.contains("Batch") ? "[batch] " + sql : sql;
+        }
+    }
+
+    private final class ResultSetHandler extends DelegatingHandler<ResultSet> {
+
+        @Override
+        Object handle(Method method, Object[] args, Object result) {
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                Capture capture = active();
+                if (capture != null) {
+                    capture.rows.incrementAndGet();
+                }
+            }
+            return result;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, DelegatingHandler<? super T> handler) {
+        ((DelegatingHandler<T>) handler).target = target;
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
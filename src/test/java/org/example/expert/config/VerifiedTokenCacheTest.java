@@ -0,0 +1,121 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 검증한_토큰은_만료_전까지_캐시에서_꺼낸다() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, meterRegistry);
+        VerifiedToken verified = new VerifiedToken(1L, "a@a.com", UserRole.USER, System.currentTimeMillis() + 60_000);
+
+        // when
+        VerifiedToken beforePut = cache.get("token");
+        cache.put("token", verified);
+        VerifiedToken afterPut = cache.get("token");
+
+        // then
+        assertNull(beforePut);
+        assertSame(verified, afterPut);
+        assertEquals(1, meterRegistry.counter("jwt.cache", "result", "hit").count());
+        assertEquals(1, meterRegistry.counter("jwt.cache", "result", "miss").count());
+    }
+
+    @Test
+    void 캐시에_없는_토큰만_한_번_검증해_넣는다() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, meterRegistry);
+        VerifiedToken verified = new VerifiedToken(1L, "a@a.com", UserRole.USER, System.currentTimeMillis() + 60_000);
+        AtomicInteger verifications = new AtomicInteger();
+
+        // when
+        VerifiedToken first = cache.getOrVerify("token", token -> {
+            verifications.incrementAndGet();
+            return verified;
+        });
+        VerifiedToken second = cache.getOrVerify("token", token -> {
+            verifications.incrementAndGet();
+            return verified;
+        });
+
+        // then
+        assertSame(verified, first);
+        assertSame(verified, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1, meterRegistry.counter("jwt.cache", "result", "miss").count());
+        assertEquals(1, meterRegistry.counter("jwt.cache", "result", "hit").count());
+        assertEquals(1, meterRegistry.timer("jwt.verification").count());
+    }
+
+    @Test
+    void 검증에_실패한_토큰은_캐시에_넣지_않는다() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, meterRegistry);
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> cache.getOrVerify("token", token -> {
+            throw new IllegalArgumentException("invalid");
+        }));
+
+        // then
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 만료된_토큰은_캐시에서_제거한다() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, meterRegistry);
+        cache.put("token", new VerifiedToken(1L, "a@a.com", UserRole.USER, System.currentTimeMillis() - 1));
+
+        // when
+        VerifiedToken verified = cache.get("token");
+
+        // then
+        assertNull(verified);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 최대_크기에_닿으면_가장_오래_쓰이지_않은_토큰을_내보내고_새_토큰을_넣는다() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, meterRegistry);
+        long now = System.currentTimeMillis();
+        cache.put("old", new VerifiedToken(1L, "a@a.com", UserRole.USER, now + 60_000));
+        cache.put("recent", new VerifiedToken(2L, "b@b.com", UserRole.USER, now + 60_000));
+        cache.get("old");
+
+        // when
+        cache.put("new", new VerifiedToken(3L, "c@c.com", UserRole.USER, now + 60_000));
+
+        // then
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("old"));
+        assertNotNull(cache.get("new"));
+        assertNull(cache.get("recent"));
+    }
+
+    @Test
+    void 구역으로_나눠도_전체_크기는_최대_크기를_넘지_않는다() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10_000, meterRegistry);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when
+        for (int i = 0; i < 30_000; i++) {
+            cache.put("token" + i, new VerifiedToken((long) i, "a@a.com", UserRole.USER, expiresAt));
+        }
+
+        // then
+        assertEquals(10_000, cache.size());
+        assertNotNull(cache.get("token29999"));
+    }
+}
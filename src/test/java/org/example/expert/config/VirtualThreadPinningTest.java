@@ -0,0 +1,143 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 가상 스레드에서 실행되는 경로가 캐리어 스레드를 고정(pinning)하지 않는지 JFR 이벤트로 확인합니다.
+class VirtualThreadPinningTest {
+
+    private static final String SECRET = "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==";
+    private static final int TASKS = 200;
+
+    @TempDir
+    private Path tempDir;
+
+    private final Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+
+    @Test
+    void 토큰_발급과_검증_경로는_캐리어를_고정하지_않는다() throws Exception {
+        // given
+        JwtCodec jwtCodec = new JwtCodec(key);
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+
+        // when
+        List<RecordedEvent> events = recordPinning(() -> {
+            String token = jwtCodec.encode(1L, "user@example.com", UserRole.USER, now, now + 60_000);
+            VerifiedToken verified = jwtCodec.decode(token, now);
+            tokenCache.put(token, verified);
+            tokenCache.get(token);
+            Thread.sleep(1);
+        });
+
+        // then
+        assertEquals(List.of(), pinnedInApplication(events));
+    }
+
+    @Test
+    void 비밀번호_해시_대기는_캐리어를_고정하지_않는다() throws Exception {
+        // given
+        PasswordHashExecutor hashExecutor = new PasswordHashExecutor(new SimpleMeterRegistry(), 1, TASKS, 5000);
+
+        try {
+            // when
+            List<RecordedEvent> events = recordPinning(() -> hashExecutor.execute(() -> {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }));
+
+            // then
+            assertEquals(List.of(), pinnedInApplication(events));
+        } finally {
+            hashExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void synchronized_안에서_대기하면_고정으로_감지한다() throws Exception {
+        // given
+        Object monitor = new Object();
+
+        // when
+        List<RecordedEvent> events = recordPinning(() -> {
+            synchronized (monitor) {
+                Thread.sleep(1);
+            }
+        });
+
+        // then
+        assertFalse(pinnedInApplication(events).isEmpty());
+    }
+
+    private List<RecordedEvent> recordPinning(PinningTask task) throws Exception {
+        Path dump = tempDir.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < TASKS; i++) {
+                    futures.add(executor.submit(() -> {
+                        task.run();
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump);
+    }
+
+    // 스택에 애플리케이션 코드가 포함된 고정 이벤트만 남깁니다. (JDK 내부 클래스 로딩 등은 제외)
+    private List<String> pinnedInApplication(List<RecordedEvent> events) {
+        List<String> pinned = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getStackTrace() == null) {
+                continue;
+            }
+            for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                String type = frame.getMethod().getType().getName();
+                if (type.startsWith("org.example.expert")) {
+                    pinned.add(type + "." + frame.getMethod().getName());
+                    break;
+                }
+            }
+        }
+        return pinned;
+    }
+
+    @FunctionalInterface
+    private interface PinningTask {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditRecorderTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        transactionManager = new DataSourceTransactionManager(database);
+        jdbcTemplate.execute("CREATE TABLE admin_audit (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT, " +
+                "http_method VARCHAR(255) NOT NULL, request_uri VARCHAR(255) NOT NULL, handler VARCHAR(255) NOT NULL, " +
+                "succeeded BOOLEAN NOT NULL, accessed_at TIMESTAMP NOT NULL)");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 버퍼에_모인_기록을_배치_크기씩_모두_저장한다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(jdbcTemplate, transactionManager, meterRegistry, 100, 2, 20, 3);
+        recorder.record(1L, "PATCH", "/admin/users/2", "UserAdminController.changeUserRole", true);
+        recorder.record(1L, "DELETE", "/admin/comments/3", "CommentAdminController.deleteComment", false);
+        recorder.record(1L, "DELETE", "/admin/comments/4", "CommentAdminController.deleteComment", true);
+
+        // when
+        recorder.flush();
+
+        // then
+        assertEquals(0, recorder.getBacklog());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_audit", Long.class));
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM admin_audit WHERE request_uri = '/admin/comments/3'");
+        assertEquals(1L, row.get("USER_ID"));
+        assertEquals("DELETE", row.get("HTTP_METHOD"));
+        assertEquals("CommentAdminController.deleteComment", row.get("HANDLER"));
+        assertEquals(false, row.get("SUCCEEDED"));
+        assertEquals(3, meterRegistry.counter("admin.audit", "result", "written").count());
+    }
+
+    @Test
+    void 버퍼가_가득_차면_기다리지_않고_버린다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(jdbcTemplate, transactionManager, meterRegistry, 2, 10, 20, 3);
+
+        // when
+        recorder.record(1L, "DELETE", "/admin/comments/1", "CommentAdminController.deleteComment", true);
+        recorder.record(1L, "DELETE", "/admin/comments/2", "CommentAdminController.deleteComment", true);
+        recorder.record(1L, "DELETE", "/admin/comments/3", "CommentAdminController.deleteComment", true);
+
+        // then
+        assertEquals(2, recorder.getBacklog());
+        assertEquals(2, meterRegistry.counter("admin.audit", "result", "recorded").count());
+        assertEquals(1, meterRegistry.counter("admin.audit", "result", "dropped").count());
+        assertEquals(2.0, meterRegistry.get("admin.audit.backlog").gauge().value());
+    }
+
+    @Test
+    void DB를_쓸_수_없으면_버퍼에_다시_넣고_최대_시도_횟수를_넘기면_실패로_센다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(jdbcTemplate, transactionManager, meterRegistry, 100, 10, 20, 3);
+        recorder.record(1L, "PATCH", "/admin/users/2", "UserAdminController.changeUserRole", true);
+        jdbcTemplate.execute("DROP TABLE admin_audit");
+
+        // when
+        recorder.flush();
+
+        // then
+        assertEquals(1, recorder.getBacklog());
+        assertEquals(0, meterRegistry.counter("admin.audit", "result", "failed").count());
+
+        // when
+        recorder.flush();
+        recorder.flush();
+
+        // then
+        assertEquals(0, recorder.getBacklog());
+        assertEquals(1, meterRegistry.counter("admin.audit", "result", "failed").count());
+    }
+
+    @Test
+    void DB가_돌아오면_다시_넣은_기록을_저장한다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(jdbcTemplate, transactionManager, meterRegistry, 100, 10, 20, 3);
+        recorder.record(1L, "PATCH", "/admin/users/2", "UserAdminController.changeUserRole", true);
+        jdbcTemplate.execute("ALTER TABLE admin_audit RENAME TO admin_audit_moved");
+        recorder.flush();
+        jdbcTemplate.execute("ALTER TABLE admin_audit_moved RENAME TO admin_audit");
+
+        // when
+        recorder.flush();
+
+        // then
+        assertEquals(0, recorder.getBacklog());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_audit", Long.class));
+        assertEquals(0, meterRegistry.counter("admin.audit", "result", "failed").count());
+    }
+
+    @Test
+    void 배치가_실패하면_한_건씩_저장해_잘못된_기록만_버린다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(jdbcTemplate, transactionManager, meterRegistry, 100, 10, 20, 3);
+        jdbcTemplate.execute("ALTER TABLE admin_audit ADD CONSTRAINT chk_admin_audit_user CHECK (user_id > 0)");
+        recorder.record(1L, "DELETE", "/admin/comments/1", "CommentAdminController.deleteComment", true);
+        recorder.record(-1L, "DELETE", "/admin/comments/2", "CommentAdminController.deleteComment", true);
+        recorder.record(1L, "DELETE", "/admin/comments/3", "CommentAdminController.deleteComment", true);
+
+        // when
+        recorder.flush();
+
+        // then
+        assertEquals(0, recorder.getBacklog());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_audit", Long.class));
+        assertEquals(2, meterRegistry.counter("admin.audit", "result", "written").count());
+        assertEquals(1, meterRegistry.counter("admin.audit", "result", "failed").count());
+    }
+
+    @Test
+    void 컬럼보다_긴_값은_잘라서_저장한다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(jdbcTemplate, transactionManager, meterRegistry, 100, 10, 20, 3);
+        String longUri = "/admin/todos/export?" + "q".repeat(400);
+        recorder.record(1L, "GET", longUri, "TodoAdminController.export", true);
+
+        // when
+        recorder.flush();
+
+        // then
+        String saved = jdbcTemplate.queryForObject("SELECT request_uri FROM admin_audit", String.class);
+        assertEquals(longUri.substring(0, AdminAuditRecorder.COLUMN_LENGTH), saved);
+    }
+
+    @Test
+    void 한_번에_최대_배치_수까지만_저장한다() {
+        // given
+        AdminAuditRecorder recorder = new AdminAuditRecorder(jdbcTemplate, transactionManager, meterRegistry, 100, 2, 2, 3);
+        for (int i = 0; i < 7; i++) {
+            recorder.record(1L, "DELETE", "/admin/comments/" + i, "CommentAdminController.deleteComment", true);
+        }
+
+        // when
+        recorder.flush();
+
+        // then
+        assertEquals(3, recorder.getBacklog());
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_audit", Long.class));
+
+        // when
+        recorder.flushOnShutdown();
+
+        // then
+        assertEquals(0, recorder.getBacklog());
+        assertEquals(7, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_audit", Long.class));
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.domain.auth.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 실제 Tomcat으로 띄워, 신뢰하는 프록시(루프백)가 보낸 X-Forwarded-For 주소별로 로그인 제한이 걸리는지 확인합니다.
+// 제한을 통과하면 없는 사용자라 400, 제한에 걸리면 429가 됩니다.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg==",
+        "password.hash.cost=4",
+        "weather.snapshot.path=build/tmp/signin-address/weather-snapshot.txt",
+        "auth.signin.throttle.address.capacity=1",
+        "auth.signin.throttle.email.capacity=100"
+})
+class SigninClientAddressTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void 프록시_뒤의_클라이언트는_전달된_주소별로_제한한다() throws Exception {
+        // when
+        int first = signin("203.0.113.1");
+        int otherClient = signin("203.0.113.2");
+        int sameClient = signin("203.0.113.1");
+
+        // then
+        assertEquals(400, first);
+        assertEquals(400, otherClient);
+        assertEquals(429, sameClient);
+    }
+
+    private int signin(String forwardedFor) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/auth/signin"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"nobody@example.com\",\"password\":\"Password1\"}"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
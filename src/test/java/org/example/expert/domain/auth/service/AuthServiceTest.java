@@ -2,22 +2,33 @@ package org.example.expert.domain.auth.service;
 
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.StoredPasswordCosts;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +43,15 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private PasswordRehasher passwordRehasher;
+
+    @Mock
+    private SigninThrottle signinThrottle;
+
+    @Mock
+    private StoredPasswordCosts storedPasswordCosts;
+
     @InjectMocks
     private AuthService authService;
 
@@ -96,5 +116,52 @@ class AuthServiceTest {
         // then
         assertEquals(token, response.getBearerToken());
         verify(userRepository).save(any(User.class));  // userRepository.save가 호출되었는지 확인
+        verify(storedPasswordCosts).added("encodedPassword");
+    }
+
+    @Test
+    void 로그인에_성공하면_토큰을_반환하고_재해시를_예약한다() {
+        // given
+        SigninRequest request = new SigninRequest("user@example.com", "password");
+        User user = new User("user@example.com", "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("password", "oldHash")).willReturn(true);
+        given(jwtUtil.createToken(1L, "user@example.com", UserRole.USER)).willReturn("jwtToken");
+
+        // when
+        SigninResponse response = authService.signin(request, "127.0.0.1");
+
+        // then
+        assertEquals("jwtToken", response.getBearerToken());
+        verify(passwordRehasher).scheduleIfNeeded(1L, "oldHash", "password");
+    }
+
+    @Test
+    void 로그인시_비밀번호가_틀리면_재해시를_예약하지_않는다() {
+        // given
+        SigninRequest request = new SigninRequest("user@example.com", "wrong");
+        User user = new User("user@example.com", "oldHash", UserRole.USER);
+
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("wrong", "oldHash")).willReturn(false);
+
+        // when & then
+        assertThrows(AuthException.class, () -> authService.signin(request, "127.0.0.1"));
+        verify(passwordRehasher, never()).scheduleIfNeeded(any(), anyString(), anyString());
+    }
+
+    @Test
+    void 로그인_시도가_제한되면_사용자를_조회하지_않는다() {
+        // given
+        SigninRequest request = new SigninRequest("user@example.com", "password");
+        willThrow(new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", 1))
+                .given(signinThrottle).check("user@example.com", "127.0.0.1");
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> authService.signin(request, "127.0.0.1"));
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
     }
-}
\ No newline at end of file
+}
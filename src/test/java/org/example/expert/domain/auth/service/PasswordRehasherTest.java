@@ -0,0 +1,108 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.StoredPasswordCosts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordRehasherTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private StoredPasswordCosts storedPasswordCosts;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordRehasher rehasher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rehasher = new PasswordRehasher(passwordEncoder, userRepository, storedPasswordCosts, meterRegistry, 2, 10);
+    }
+
+    @Test
+    void cost가_같은_해시는_예약하지_않는다() {
+        // given
+        given(passwordEncoder.needsRehash("currentHash")).willReturn(false);
+
+        // when
+        rehasher.scheduleIfNeeded(1L, "currentHash", "password");
+
+        // then
+        assertEquals(0, rehasher.getQueueDepth());
+    }
+
+    @Test
+    void 예약된_재해시는_기존_해시가_그대로일_때만_저장한다() {
+        // given
+        given(passwordEncoder.needsRehash(anyString())).willReturn(true);
+        given(passwordEncoder.encode("password")).willReturn("newHash");
+        given(userRepository.updatePasswordIfUnchanged(1L, "oldHash", "newHash")).willReturn(1);
+        given(userRepository.updatePasswordIfUnchanged(2L, "changedHash", "newHash")).willReturn(0);
+        rehasher.scheduleIfNeeded(1L, "oldHash", "password");
+        rehasher.scheduleIfNeeded(2L, "changedHash", "password");
+
+        // when
+        rehasher.rehashPending();
+
+        // then
+        assertEquals(0, rehasher.getQueueDepth());
+        assertEquals(1.0, meterRegistry.get("password.rehash").tag("result", "rehashed").counter().count());
+        assertEquals(1.0, meterRegistry.get("password.rehash").tag("result", "skipped").counter().count());
+        verify(storedPasswordCosts).replaced("oldHash", "newHash");
+        verify(storedPasswordCosts, never()).replaced(eq("changedHash"), anyString());
+    }
+
+    @Test
+    void 대기열이_가득_차거나_해시_풀이_바쁘면_버린다() {
+        // given
+        given(passwordEncoder.needsRehash(anyString())).willReturn(true);
+        given(passwordEncoder.encode("password")).willThrow(new ServiceUnavailableException("busy", 1));
+        rehasher.scheduleIfNeeded(1L, "oldHash", "password");
+        rehasher.scheduleIfNeeded(2L, "oldHash", "password");
+        rehasher.scheduleIfNeeded(3L, "oldHash", "password");
+
+        // when
+        rehasher.rehashPending();
+
+        // then
+        assertEquals(3.0, meterRegistry.get("password.rehash").tag("result", "dropped").counter().count());
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void 로그인한_사용자의_저장된_해시_cost별_횟수를_센다() {
+        // given
+        given(passwordEncoder.needsRehash(anyString())).willReturn(false);
+
+        // when
+        rehasher.scheduleIfNeeded(1L, "$2a$04$abcdefghijklmnopqrstuv", "password");
+        rehasher.scheduleIfNeeded(2L, "$2a$10$abcdefghijklmnopqrstuv", "password");
+        rehasher.scheduleIfNeeded(3L, "$2a$10$abcdefghijklmnopqrstuv", "password");
+        rehasher.scheduleIfNeeded(4L, "plain", "password");
+
+        // then
+        assertEquals(1.0, meterRegistry.get("password.hash.signin").tag("cost", "4").counter().count());
+        assertEquals(2.0, meterRegistry.get("password.hash.signin").tag("cost", "10").counter().count());
+        assertEquals(1.0, meterRegistry.get("password.hash.signin").tag("cost", "unknown").counter().count());
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigninThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 같은_계정의_시도가_한도를_넘으면_429_예외를_던진다() {
+        // given
+        SigninThrottle throttle = new SigninThrottle(meterRegistry, true, 4, 64, 2, 60, 100, 6000);
+        throttle.check("User@Example.com", "10.0.0.1");
+        throttle.check("user@example.com ", "10.0.0.2");
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> throttle.check("user@example.com", "10.0.0.3"));
+
+        // then
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("auth.signin.throttled").tag("key", "email").counter().count());
+    }
+
+    @Test
+    void 같은_주소의_시도가_한도를_넘으면_계정과_무관하게_거절한다() {
+        // given
+        SigninThrottle throttle = new SigninThrottle(meterRegistry, true, 4, 64, 100, 6000, 2, 60);
+        throttle.check("a@example.com", "10.0.0.1");
+        throttle.check("b@example.com", "10.0.0.1");
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> throttle.check("c@example.com", "10.0.0.1"));
+        assertEquals(1.0, meterRegistry.get("auth.signin.throttled").tag("key", "address").counter().count());
+    }
+
+    @Test
+    void 비활성화되면_제한하지_않는다() {
+        // given
+        SigninThrottle throttle = new SigninThrottle(meterRegistry, false, 4, 64, 1, 1, 1, 1);
+
+        // when & then
+        assertDoesNotThrow(() -> {
+            for (int i = 0; i < 10; i++) {
+                throttle.check("user@example.com", "10.0.0.1");
+            }
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.expert.domain.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedTokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void 용량을_모두_쓰면_거절하고_시간이_지나면_다시_허용한다() {
+        // given
+        StripedTokenBucket bucket = new StripedTokenBucket(4, 16, 2, 1.0, clock::get);
+
+        // when
+        long first = bucket.tryAcquire("user@example.com");
+        long second = bucket.tryAcquire("user@example.com");
+        long third = bucket.tryAcquire("user@example.com");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        long afterRefill = bucket.tryAcquire("user@example.com");
+
+        // then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertEquals(TimeUnit.SECONDS.toNanos(1), third);
+        assertEquals(0, afterRefill);
+    }
+
+    @Test
+    void 키마다_독립된_버킷을_사용한다() {
+        // given
+        StripedTokenBucket bucket = new StripedTokenBucket(4, 16, 1, 1.0, clock::get);
+        bucket.tryAcquire("a@example.com");
+
+        // when & then
+        assertTrue(bucket.tryAcquire("a@example.com") > 0);
+        assertEquals(0, bucket.tryAcquire("b@example.com"));
+    }
+
+    @Test
+    void 슬롯보다_많은_키가_들어와도_메모리를_늘리지_않고_오래된_키를_재사용한다() {
+        // given
+        StripedTokenBucket bucket = new StripedTokenBucket(1, 8, 1, 1.0, clock::get);
+        for (int i = 0; i < 1000; i++) {
+            bucket.tryAcquire("user" + i + "@example.com");
+        }
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        long stale = bucket.tryAcquire("user0@example.com");
+
+        // then
+        assertEquals(0, stale);
+    }
+
+    @Test
+    void 여러_스레드가_같은_키를_동시에_사용해도_용량만큼만_허용한다() throws Exception {
+        // given
+        int capacity = 100;
+        StripedTokenBucket bucket = new StripedTokenBucket(16, 64, capacity, 0.000001);
+        int threads = Runtime.getRuntime().availableProcessors() * 2;
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        runConcurrently(threads, index -> {
+            for (int i = 0; i < 1000; i++) {
+                if (bucket.tryAcquire("victim@example.com") == 0) {
+                    allowed.incrementAndGet();
+                }
+            }
+        });
+
+        // then
+        assertEquals(capacity, allowed.get());
+    }
+
+    @Test
+    void 서로_다른_키는_스트라이프로_나뉘어_동시에_처리된다() throws Exception {
+        // given
+        StripedTokenBucket bucket = new StripedTokenBucket(64, 1024, 1000, 0.000001);
+        int threads = Runtime.getRuntime().availableProcessors() * 2;
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        runConcurrently(threads, index -> {
+            for (int i = 0; i < 1000; i++) {
+                if (bucket.tryAcquire("10.0.0." + index) != 0) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        // then
+        assertEquals(0, rejected.get());
+    }
+
+    private static void runConcurrently(int threads, IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int index = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface IntConsumer {
+        void accept(int value);
+    }
+
+    @Test
+    void 해시는_인스턴스의_seed에_따라_달라진다() {
+        // given
+        StripedTokenBucket first = new StripedTokenBucket(4, 16, 1, 1.0, clock::get, 1L);
+        StripedTokenBucket sameSeed = new StripedTokenBucket(4, 16, 1, 1.0, clock::get, 1L);
+        StripedTokenBucket otherSeed = new StripedTokenBucket(4, 16, 1, 1.0, clock::get, 2L);
+
+        // when
+        long hash = first.hash("user@example.com");
+
+        // then
+        assertEquals(hash, sameSeed.hash("user@example.com"));
+        assertNotEquals(hash, otherSeed.hash("user@example.com"));
+    }
+}
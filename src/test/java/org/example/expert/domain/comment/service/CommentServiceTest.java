@@ -6,18 +6,25 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +43,11 @@ class CommentServiceTest {
     @InjectMocks
     private CommentService commentService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentService, "maxPageSize", 2);
+    }
+
     @Test
     public void comment_등록_중_할일을_찾지_못해_에러가_발생한다() {
         // given
@@ -78,22 +90,64 @@ class CommentServiceTest {
     void 댓글을_가져올_때_정상적으로_반환한다() {
         // given
         long todoId = 1L;
-        User user = new User("email", "password", UserRole.USER);
-        Todo todo = new Todo();
-        Comment comment = new Comment("contents", user, todo);
-        List<Comment> comments = List.of(comment);
+        CommentResponse comment = new CommentResponse(1L, "contents", 2L, "email", LocalDateTime.now());
+        List<CommentResponse> comments = List.of(comment);
 
-        given(commentRepository.findByTodoIdWithUser(anyLong())).willReturn(comments);
+        given(commentRepository.findFirstSliceByTodoId(anyLong(), any(Pageable.class))).willReturn(comments);
 
         // when
-        List<CommentResponse> result = commentService.getComments(todoId);
+        CursorResponse<CommentResponse> result = commentService.getComments(todoId, null, 20);
 
         // then
         assertNotNull(result);
-        CommentResponse commentResponse = result.get(0);
+        assertFalse(result.isHasNext());
+        CommentResponse commentResponse = result.getContent().get(0);
         assertEquals(comment.getId(), commentResponse.getId());
         assertEquals(comment.getContents(), commentResponse.getContents());
-        assertEquals(user.getId(), commentResponse.getUser().getId());
-        assertEquals(user.getEmail(), commentResponse.getUser().getEmail());
+        assertEquals(2L, commentResponse.getUser().getId());
+        assertEquals("email", commentResponse.getUser().getEmail());
+    }
+
+    @Test
+    void 댓글은_최대_페이지_크기만큼만_읽고_다음_커서를_반환한다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<CommentResponse> comments = List.of(commentOf(1L, createdAt), commentOf(2L, createdAt), commentOf(3L, createdAt));
+
+        given(commentRepository.findFirstSliceByTodoId(todoId, PageRequest.of(0, 3))).willReturn(comments);
+
+        // when
+        CursorResponse<CommentResponse> result = commentService.getComments(todoId, null, 1_000);
+
+        // then
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(createdAt, next.getTimestamp());
+        assertEquals(2L, next.getId());
+    }
+
+    @Test
+    void 커서가_있으면_커서_다음_댓글부터_조회한다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new KeysetCursor(createdAt, 2L).encode();
+        CommentResponse comment = commentOf(3L, createdAt);
+
+        given(commentRepository.findSliceByTodoIdAfter(todoId, createdAt, 2L, PageRequest.of(0, 3)))
+                .willReturn(List.of(comment));
+
+        // when
+        CursorResponse<CommentResponse> result = commentService.getComments(todoId, cursor, 2);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+    }
+
+    private static CommentResponse commentOf(Long id, LocalDateTime createdAt) {
+        return new CommentResponse(id, "contents" + id, 1L, "email", createdAt);
     }
 }
@@ -0,0 +1,56 @@
+package org.example.expert.domain.common.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceVersionTest {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_000);
+
+    @Test
+    void 같은_상태면_같은_ETag를_만든다() {
+        // when & then
+        assertEquals(new ResourceVersion(MODIFIED_AT, false).getEtag(), new ResourceVersion(MODIFIED_AT, false).getEtag());
+        assertEquals(new ResourceVersion(3L, 7L, MODIFIED_AT).getEtag(), new ResourceVersion(3L, 7L, MODIFIED_AT).getEtag());
+    }
+
+    @Test
+    void 날씨가_채워지면_수정_시각이_같아도_ETag가_바뀐다() {
+        // when & then
+        assertNotEquals(new ResourceVersion(MODIFIED_AT, true).getEtag(), new ResourceVersion(MODIFIED_AT, false).getEtag());
+    }
+
+    @Test
+    void 수정_시각이_나노초만_달라도_ETag가_바뀐다() {
+        // when & then
+        assertNotEquals(new ResourceVersion(MODIFIED_AT, false).getEtag(),
+                new ResourceVersion(MODIFIED_AT.plusNanos(1_000), false).getEtag());
+    }
+
+    @Test
+    void 컬렉션의_행이_추가되거나_삭제되면_ETag가_바뀐다() {
+        // given
+        String etag = new ResourceVersion(3L, 7L).getEtag();
+
+        // when & then
+        assertNotEquals(etag, new ResourceVersion(2L, 7L).getEtag());  // id 7 이전 행 삭제
+        assertNotEquals(etag, new ResourceVersion(3L, 8L).getEtag());  // 삭제 후 추가
+        assertEquals(new ResourceVersion(0L, 0L).getEtag(), new ResourceVersion(0L, null).getEtag());
+    }
+
+    @Test
+    void 여러_버전을_이어_하나의_ETag로_만든다() {
+        // given
+        ResourceVersion todo = new ResourceVersion(MODIFIED_AT, false);
+        ResourceVersion managers = new ResourceVersion(1L, 1L);
+
+        // when
+        String etag = ResourceVersion.combine(todo, managers);
+
+        // then
+        assertEquals(todo.getEtag() + "-" + managers.getEtag(), etag);
+    }
+}
@@ -44,7 +44,7 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_IRE_에러를_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoRepository.existsById(todoId)).willReturn(false);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -77,14 +77,10 @@ class ManagerServiceTest {
     public void manager_목록_조회에_성공한다() {
         // given
         long todoId = 1L;
-        User user = new User("user1@example.com", "password", UserRole.USER);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
+        ManagerResponse mockManager = new ManagerResponse(1L, 1L, "user1@example.com");
+        List<ManagerResponse> managerList = List.of(mockManager);
 
-        Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
-
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.existsById(todoId)).willReturn(true);
         given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
 
         // when
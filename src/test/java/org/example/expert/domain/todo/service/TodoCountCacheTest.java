@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCountCacheTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private TodoCountCache todoCountCache;
+
+    @BeforeEach
+    void setUp() {
+        todoCountCache = new TodoCountCache(todoRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 처음_조회할_때_한_번만_COUNT를_실행하고_이후에는_증감으로_유지한다() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+
+        // when
+        long first = todoCountCache.approximateCount();
+        todoCountCache.onInserted();
+        todoCountCache.onInserted();
+        todoCountCache.onDeleted();
+        long second = todoCountCache.approximateCount();
+
+        // then
+        assertEquals(10L, first);
+        assertEquals(11L, second);
+        verify(todoRepository, times(1)).count();
+    }
+
+    @Test
+    void 주기적인_재계산으로_오차를_바로잡는다() {
+        // given
+        given(todoRepository.count()).willReturn(10L, 7L);
+        todoCountCache.approximateCount();
+        todoCountCache.onInserted();
+
+        // when
+        todoCountCache.refresh();
+
+        // then
+        assertEquals(7L, todoCountCache.approximateCount());
+    }
+
+    @Test
+    void 초기화_전의_증감은_무시한다() {
+        // given
+        todoCountCache.onDeleted();
+        given(todoRepository.count()).willReturn(3L);
+
+        // when & then
+        assertEquals(3L, todoCountCache.approximateCount());
+    }
+}
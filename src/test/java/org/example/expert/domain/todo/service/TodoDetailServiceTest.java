@@ -0,0 +1,132 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoDetailServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TodoDetailService todoDetailService;
+
+    @BeforeEach
+    void setUp() {
+        todoDetailService = new TodoDetailService(
+                todoRepository, managerRepository, commentRepository, transactionManager, 3, 10, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoDetailService.shutdown();
+    }
+
+    @Test
+    void 일정_담당자_첫_페이지_댓글을_한번에_조회한다() {
+        // given
+        TodoResponse todo = todoOf(1L);
+        ManagerResponse manager = new ManagerResponse(10L, 1L, "user@example.com");
+
+        given(todoRepository.findByIdWithUser(1L)).willReturn(Optional.of(todo));
+        given(managerRepository.findByTodoIdWithUser(1L)).willReturn(List.of(manager));
+        given(commentRepository.findFirstSliceByTodoId(1L, PageRequest.of(0, 3)))
+                .willReturn(List.of(commentOf(1L), commentOf(2L), commentOf(3L)));
+
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(1L, 2);
+
+        // then
+        assertEquals(1L, response.getId());
+        assertEquals("user@example.com", response.getUser().getEmail());
+        assertEquals(1, response.getManagers().size());
+        assertEquals(10L, response.getManagers().get(0).getId());
+        assertEquals(2, response.getComments().size());
+        assertTrue(response.isHasMoreComments());
+        assertEquals(2L, KeysetCursor.decode(response.getNextCommentCursor()).getId());
+    }
+
+    @Test
+    void 세_조회는_동시에_실행된다() throws Exception {
+        // given
+        TodoResponse todo = todoOf(1L);
+        CountDownLatch allStarted = new CountDownLatch(3);
+
+        given(todoRepository.findByIdWithUser(1L)).willAnswer(invocation -> {
+            arriveAndWait(allStarted);
+            return Optional.of(todo);
+        });
+        given(managerRepository.findByTodoIdWithUser(1L)).willAnswer(invocation -> {
+            arriveAndWait(allStarted);
+            return List.of();
+        });
+        given(commentRepository.findFirstSliceByTodoId(1L, PageRequest.of(0, 11))).willAnswer(invocation -> {
+            arriveAndWait(allStarted);
+            return List.of();
+        });
+
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(1L, 10);
+
+        // then
+        assertEquals(0, allStarted.getCount());
+        assertFalse(response.isHasMoreComments());
+    }
+
+    @Test
+    void 일정이_없으면_예외가_발생한다() {
+        // given
+        given(todoRepository.findByIdWithUser(1L)).willReturn(Optional.empty());
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoDetailService.getTodoDetail(1L, 10));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    private static void arriveAndWait(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("조회가 동시에 실행되지 않았습니다.");
+        }
+    }
+
+    private static TodoResponse todoOf(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoResponse(id, "title", "contents", "Sunny", 1L, "user@example.com", now, now);
+    }
+
+    private static CommentResponse commentOf(Long id) {
+        return new CommentResponse(id, "contents" + id, 1L, "user@example.com", LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+}
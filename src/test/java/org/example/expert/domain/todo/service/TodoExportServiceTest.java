@@ -0,0 +1,85 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TodoExportService todoExportService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255), contents VARCHAR(255), " +
+                "weather VARCHAR(255), user_id BIGINT, created_at TIMESTAMP, modified_at TIMESTAMP)");
+        todoExportService = new TodoExportService(
+                jdbcTemplate, new DataSourceTransactionManager(database), objectMapper, meterRegistry, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 모든_일정을_한_줄에_하나씩_JSON으로_내보낸다() throws Exception {
+        // given
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 'user@example.com')");
+        for (int i = 1; i <= 5; i++) {
+            jdbcTemplate.update("INSERT INTO todos VALUES (?, ?, 'contents', 'Sunny', 1, TIMESTAMP '2024-01-01 12:00:00', NULL)",
+                    i, "title \"" + i + "\"\n");
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long exported = todoExportService.exportTodos(outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, exported);
+        assertEquals(5, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1, first.get("id").asLong());
+        assertEquals("title \"1\"\n", first.get("title").asText());
+        assertEquals("user@example.com", first.get("email").asText());
+        assertEquals("2024-01-01T12:00:00", first.get("createdAt").asText());
+        assertTrue(first.get("modifiedAt").isNull());
+        assertEquals(5.0, meterRegistry.get("todo.export.rows").counter().count());
+    }
+
+    @Test
+    void 일정이_없으면_아무것도_쓰지_않는다() {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long exported = todoExportService.exportTodos(outputStream);
+
+        // then
+        assertEquals(0, exported);
+        assertEquals(0, outputStream.size());
+    }
+}
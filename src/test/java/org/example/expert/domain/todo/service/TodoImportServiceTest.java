@@ -0,0 +1,123 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoImportServiceTest {
+
+    @Mock
+    private TodoCountCache todoCountCache;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TodoImportService todoImportService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(255), contents VARCHAR(255), " +
+                "weather VARCHAR(255), weather_pending BOOLEAN, user_id BIGINT NOT NULL REFERENCES users(id), " +
+                "created_at TIMESTAMP, modified_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE comments (id BIGINT AUTO_INCREMENT PRIMARY KEY, contents VARCHAR(255), " +
+                "user_id BIGINT NOT NULL REFERENCES users(id), todo_id BIGINT NOT NULL REFERENCES todos(id), " +
+                "created_at TIMESTAMP, modified_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE managers (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "user_id BIGINT NOT NULL REFERENCES users(id), todo_id BIGINT NOT NULL REFERENCES todos(id))");
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 'a@example.com'), (2, 'b@example.com')");
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        todoImportService = new TodoImportService(jdbcTemplate, new DataSourceTransactionManager(database),
+                objectMapper, todoCountCache, new SimpleMeterRegistry(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 청크_단위로_일정_댓글_담당자를_등록한다() {
+        // given
+        String body = """
+                {"title":"t1","contents":"c1","userId":1,"createdAt":"2024-01-01T12:00:00","comments":[{"contents":"hi","userId":2}],"managerUserIds":[2]}
+                {"title":"t2","contents":"c2","userId":2,"managerUserIds":[2]}
+                {"title":"t3","contents":"c3","userId":1,"comments":[{"contents":"a","userId":1},{"contents":"b","userId":2}]}
+                """;
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(stream(body));
+
+        // then
+        assertEquals(3, response.getTodos());
+        assertEquals(3, response.getComments());
+        assertEquals(4, response.getManagers());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comments c JOIN todos t ON t.id = c.todo_id WHERE t.title = 't1'", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM comments c JOIN todos t ON t.id = c.todo_id WHERE t.title = 't3'", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM managers m JOIN todos t ON t.id = m.todo_id WHERE t.title = 't1'", Integer.class));
+        verify(todoCountCache).onInserted(2L);
+        verify(todoCountCache).onInserted(1L);
+    }
+
+    @Test
+    void 형식이_잘못된_줄이_있으면_이전_청크까지만_저장하고_예외를_던진다() {
+        // given
+        String body = """
+                {"title":"t1","contents":"c1","userId":1}
+                {"title":"t2","contents":"c2","userId":1}
+                {"title":
+                """;
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoImportService.importTodos(stream(body)));
+
+        // then
+        assertTrue(exception.getMessage().startsWith("3번째 줄"));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Integer.class));
+    }
+
+    @Test
+    void 존재하지_않는_사용자를_참조하면_해당_청크를_저장하지_않는다() {
+        // given
+        String body = """
+                {"title":"t1","contents":"c1","userId":1,"comments":[{"contents":"hi","userId":99}]}
+                """;
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoImportService.importTodos(stream(body)));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Integer.class));
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,6 +3,9 @@ package org.example.expert.domain.todo.service;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
@@ -20,16 +23,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
@@ -40,6 +52,12 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @Mock
+    private TodoCountCache todoCountCache;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -65,15 +83,36 @@ class TodoServiceTest {
     }
 
     @Test
-    void todo_목록_조회에_성공한다() {
+    void 비동기_날씨_모드에서는_날씨_API를_기다리지_않고_등록한다() {
         // given
+        given(todoWeatherEnricher.isAsyncEnabled()).willReturn(true);
+
         User user = new User("user@example.com", "password", UserRole.USER);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        Page<Todo> todosPage = new PageImpl<>(List.of(todo));
+        Todo newTodo = new Todo("Title", "Contents", null, user);
+        ReflectionTestUtils.setField(newTodo, "id", 1L);
+        given(todoRepository.save(any(Todo.class))).willReturn(newTodo);
 
-        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todosPage);
+        AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        TodoSaveRequest request = new TodoSaveRequest("Title", "Contents");
 
-        Pageable pageable = PageRequest.of(0, 10);
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, request);
+
+        // then
+        assertNull(response.getWeather());
+        verify(weatherClient, never()).getTodayWeather();
+        verify(todoRepository).save(argThat(Todo::isWeatherPending));
+        verify(todoWeatherEnricher).enqueue(eq(1L), any(LocalDate.class));
+    }
+
+    @Test
+    void todo_목록_조회에_성공한다() {
+        // given
+        TodoResponse todo = new TodoResponse(1L, "Title", "Contents", "Sunny", 1L, "user@example.com",
+                LocalDateTime.now(), LocalDateTime.now());
+        Page<TodoResponse> todosPage = new PageImpl<>(List.of(todo));
+
+        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todosPage);
 
         // when
         Page<TodoResponse> todoResponses = todoService.getTodos(1, 10);
@@ -83,11 +122,72 @@ class TodoServiceTest {
         assertEquals("Title", todoResponses.getContent().get(0).getTitle());
     }
 
+    @Test
+    void 근사_개수_모드에서는_COUNT_쿼리_없이_캐시된_개수를_사용한다() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(todoRepository.findPageByOrderByModifiedAtDesc(pageable))
+                .willReturn(List.of(todoOf(1L, LocalDateTime.now())));
+        given(todoCountCache.approximateCount()).willReturn(1_000L);
+
+        // when
+        Page<TodoResponse> todoResponses = todoService.getTodosWithApproximateCount(1, 10);
+
+        // then
+        assertEquals(1_000L, todoResponses.getTotalElements());
+        assertEquals(1, todoResponses.getContent().size());
+        verify(todoRepository, never()).findAllByOrderByModifiedAtDesc(any(Pageable.class));
+    }
+
+    @Test
+    void 커서_없이_조회하면_첫_페이지와_다음_커서를_반환한다() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<TodoResponse> todos = List.of(todoOf(3L, modifiedAt), todoOf(2L, modifiedAt), todoOf(1L, modifiedAt));
+        given(todoRepository.findFirstSlice(PageRequest.of(0, 3))).willReturn(todos);
+
+        // when
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(null, 2);
+
+        // then
+        assertEquals(2, response.getContent().size());
+        assertTrue(response.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(response.getNextCursor());
+        assertEquals(modifiedAt, next.getTimestamp());
+        assertEquals(2L, next.getId());
+        verify(todoRepository, never()).findAllByOrderByModifiedAtDesc(any(Pageable.class));
+    }
+
+    @Test
+    void 커서로_조회하면_커서_위치_다음부터_읽고_마지막_페이지에서는_커서가_없다() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new KeysetCursor(modifiedAt, 2L).encode();
+        given(todoRepository.findSliceAfter(modifiedAt, 2L, PageRequest.of(0, 3)))
+                .willReturn(List.of(todoOf(1L, modifiedAt)));
+
+        // when
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(cursor, 2);
+
+        // then
+        assertEquals(1, response.getContent().size());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void 잘못된_커서는_예외가_발생한다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodosByCursor("not-a-cursor", 10));
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+
     @Test
     void todo_조회_성공한다() {
         // given
-        User user = new User("user@example.com", "password", UserRole.USER);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
+        TodoResponse todo = new TodoResponse(1L, "Title", "Contents", "Sunny", 1L, "user@example.com",
+                LocalDateTime.now(), LocalDateTime.now());
         given(todoRepository.findByIdWithUser(any(Long.class))).willReturn(Optional.of(todo));
 
         // when
@@ -98,6 +198,20 @@ class TodoServiceTest {
         assertEquals("Sunny", todoResponse.getWeather());
     }
 
+    @Test
+    void todo_버전은_본문_조회_없이_가져온다() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        given(todoRepository.findVersionById(1L)).willReturn(Optional.of(new ResourceVersion(modifiedAt, false)));
+
+        // when
+        String etag = todoService.getTodoEtag(1L);
+
+        // then
+        assertEquals(new ResourceVersion(modifiedAt, false).getEtag(), etag);
+        verify(todoRepository, never()).findByIdWithUser(any(Long.class));
+    }
+
     @Test
     void todo가_존재하지_않으면_예외가_발생한다() {
         // given
@@ -110,4 +224,8 @@ class TodoServiceTest {
 
         assertEquals("Todo not found", thrownException.getMessage());
     }
-}
\ No newline at end of file
+
+    private static TodoResponse todoOf(Long id, LocalDateTime modifiedAt) {
+        return new TodoResponse(id, "title", "contents", "Sunny", 1L, "user@example.com", modifiedAt, modifiedAt);
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.PendingWeatherTodo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TodoWeatherEnricher enricher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        enricher = new TodoWeatherEnricher(todoRepository, weatherClient, meterRegistry, true, 100, 50, 2, 0, 0);
+    }
+
+    @Test
+    void 같은_날짜의_대기_일정은_한번의_UPDATE로_채운다() {
+        // given
+        LocalDate today = LocalDate.now();
+        enricher.enqueue(1L, today);
+        enricher.enqueue(2L, today);
+        enricher.enqueue(3L, today);
+        given(weatherClient.getWeather(today)).willReturn("Sunny");
+        given(todoRepository.fillPendingWeather(List.of(1L, 2L, 3L), "Sunny")).willReturn(3);
+
+        // when
+        enricher.enrichPending();
+
+        // then
+        verify(weatherClient, times(1)).getWeather(today);
+        verify(todoRepository, times(1)).fillPendingWeather(List.of(1L, 2L, 3L), "Sunny");
+        assertEquals(0, enricher.getQueueDepth());
+        assertEquals(3, meterRegistry.counter("todo.weather.enrichment", "result", "enriched").count());
+    }
+
+    @Test
+    void 날씨_조회에_실패하면_재시도_한도까지_다시_큐에_넣는다() {
+        // given
+        LocalDate today = LocalDate.now();
+        enricher.enqueue(1L, today);
+        given(weatherClient.getWeather(today)).willThrow(new ServerException("날씨 데이터를 가져오는데 실패했습니다."));
+
+        // when
+        enricher.enrichPending();
+        int depthAfterFirstFailure = enricher.getQueueDepth();
+        enricher.enrichPending();
+
+        // then
+        assertEquals(1, depthAfterFirstFailure);
+        assertEquals(0, enricher.getQueueDepth());
+        assertEquals(1, meterRegistry.counter("todo.weather.enrichment", "result", "retried").count());
+        assertEquals(1, meterRegistry.counter("todo.weather.enrichment", "result", "failed").count());
+        verify(todoRepository, never()).fillPendingWeather(anyCollection(), anyString());
+    }
+
+    @Test
+    void DB에_남은_대기_일정을_다시_큐에_적재한다() {
+        // given
+        given(todoRepository.findPendingWeatherAfter(anyLong(), any(Pageable.class))).willReturn(List.of(
+                new PendingWeatherTodo(1L, LocalDateTime.now()),
+                new PendingWeatherTodo(2L, LocalDateTime.now())
+        ));
+
+        // when
+        enricher.enqueue(1L, LocalDate.now());
+        enricher.sweepPending();
+
+        // then
+        assertEquals(2, enricher.getQueueDepth());
+    }
+
+    @Test
+    void 재시도는_대기_시간이_지나기_전에는_다시_시도하지_않는다() {
+        // given
+        enricher = new TodoWeatherEnricher(todoRepository, weatherClient, meterRegistry, true, 100, 50, 5, 60_000, 60_000);
+        LocalDate today = LocalDate.now();
+        enricher.enqueue(1L, today);
+        given(weatherClient.getWeather(today)).willThrow(new ServerException("날씨 데이터를 가져오는데 실패했습니다."));
+
+        // when
+        enricher.enrichPending();
+        enricher.enrichPending();
+
+        // then
+        verify(weatherClient, times(1)).getWeather(today);
+        assertEquals(1, enricher.getQueueDepth());
+    }
+
+    @Test
+    void 재시도_대기_중인_일정은_재조회로_다시_적재하지_않는다() {
+        // given
+        enricher = new TodoWeatherEnricher(todoRepository, weatherClient, meterRegistry, true, 100, 50, 5, 60_000, 60_000);
+        LocalDate today = LocalDate.now();
+        enricher.enqueue(1L, today);
+        given(weatherClient.getWeather(today)).willThrow(new ServerException("날씨 데이터를 가져오는데 실패했습니다."));
+        enricher.enrichPending();
+        given(todoRepository.findPendingWeatherAfter(anyLong(), any(Pageable.class))).willReturn(List.of(
+                new PendingWeatherTodo(1L, LocalDateTime.now())
+        ));
+
+        // when
+        enricher.sweepPending();
+
+        // then
+        assertEquals(1, enricher.getQueueDepth());
+    }
+
+    @Test
+    void 재조회는_이미_읽은_행_다음부터_이어서_읽고_끝에_닿으면_처음부터_읽는다() {
+        // given
+        enricher = new TodoWeatherEnricher(todoRepository, weatherClient, meterRegistry, true, 100, 2, 5, 0, 0);
+        given(todoRepository.findPendingWeatherAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+                new PendingWeatherTodo(1L, LocalDateTime.now()),
+                new PendingWeatherTodo(2L, LocalDateTime.now())
+        ));
+        given(todoRepository.findPendingWeatherAfter(eq(2L), any(Pageable.class))).willReturn(List.of(
+                new PendingWeatherTodo(3L, LocalDateTime.now())
+        ));
+
+        // when
+        enricher.sweepPending();
+        enricher.sweepPending();
+        enricher.sweepPending();
+
+        // then
+        verify(todoRepository, times(2)).findPendingWeatherAfter(eq(0L), any(Pageable.class));
+        verify(todoRepository, times(1)).findPendingWeatherAfter(eq(2L), any(Pageable.class));
+        assertEquals(3, enricher.getQueueDepth());
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.user.aop;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.audit.service.AdminAuditRecorder;
 import org.example.expert.domain.comment.controller.CommentAdminController;
 import org.example.expert.domain.comment.service.CommentAdminService;
 import org.example.expert.domain.user.config.AspectConfig;
@@ -40,6 +41,9 @@ class AdminAccessAspectTest {
     @MockBean
     private JwtUtil jwtUtil;
 
+    @MockBean
+    private AdminAuditRecorder adminAuditRecorder;
+
     @Autowired
     private ObjectMapper objectMapper;
 
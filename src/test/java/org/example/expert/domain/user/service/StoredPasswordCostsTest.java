@@ -0,0 +1,85 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoredPasswordCostsTest {
+
+    private static final String COST_4 = "$2a$04$abcdefghijklmnopqrstuv";
+    private static final String COST_10 = "$2a$10$abcdefghijklmnopqrstuv";
+    private static final String COST_12 = "$2a$12$abcdefghijklmnopqrstuv";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StoredPasswordCosts storedPasswordCosts;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storedPasswordCosts = new StoredPasswordCosts(userRepository, meterRegistry);
+    }
+
+    @Test
+    void 기동_시_저장된_해시를_cost별로_센다() {
+        // given
+        given(userRepository.countByPasswordCost()).willReturn(List.of(
+                new Object[]{"10", 5L},
+                new Object[]{"04", 2L},
+                new Object[]{"ai", 1L}
+        ));
+
+        // when
+        storedPasswordCosts.recount();
+
+        // then
+        assertEquals(5.0, meterRegistry.get("password.hash.stored").tag("cost", "10").gauge().value());
+        assertEquals(2.0, meterRegistry.get("password.hash.stored").tag("cost", "4").gauge().value());
+        assertEquals(1.0, meterRegistry.get("password.hash.stored").tag("cost", "unknown").gauge().value());
+    }
+
+    @Test
+    void 가입과_비밀번호_변경_재해시에_따라_개수를_옮긴다() {
+        // given
+        given(userRepository.countByPasswordCost()).willReturn(List.<Object[]>of(new Object[]{"10", 3L}));
+        storedPasswordCosts.recount();
+
+        // when
+        storedPasswordCosts.added(COST_4);
+        storedPasswordCosts.replaced(COST_10, COST_12);
+        storedPasswordCosts.replaced(COST_10, COST_10);
+
+        // then
+        assertEquals(1, storedPasswordCosts.get(4));
+        assertEquals(2, storedPasswordCosts.get(10));
+        assertEquals(1, storedPasswordCosts.get(12));
+        assertEquals(1.0, meterRegistry.get("password.hash.stored").tag("cost", "12").gauge().value());
+    }
+
+    @Test
+    void 다시_세면_어긋난_개수를_바로잡는다() {
+        // given
+        storedPasswordCosts.added(COST_4);
+        storedPasswordCosts.added(COST_4);
+        given(userRepository.countByPasswordCost()).willReturn(List.<Object[]>of(new Object[]{"10", 1L}));
+
+        // when
+        storedPasswordCosts.recount();
+
+        // then
+        assertEquals(0, storedPasswordCosts.get(4));
+        assertEquals(1, storedPasswordCosts.get(10));
+    }
+}
@@ -2,6 +2,9 @@ package org.example.expert.domain.user.service;
 
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,7 +14,15 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -22,6 +33,9 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private StoredPasswordCosts storedPasswordCosts;
+
     @InjectMocks
     private UserService userService;
 
@@ -90,4 +104,41 @@ public class UserServiceTest {
 
         assertEquals("User not found", exception.getMessage());
     }
+
+    @Test
+    public void 비밀번호_변경은_조회한_해시가_그대로일_때만_수정한다() {
+        // given
+        UserChangePasswordRequest request = new UserChangePasswordRequest("Password1", "Password2");
+        given(userRepository.findById(1L)).willReturn(Optional.of(new User("a@a.com", "oldHash", UserRole.USER)));
+        given(passwordEncoder.matches("Password2", "oldHash")).willReturn(false);
+        given(passwordEncoder.matches("Password1", "oldHash")).willReturn(true);
+        given(passwordEncoder.encode("Password2")).willReturn("newHash");
+        given(userRepository.changePasswordIfUnchanged(any(), any(), any(), any())).willReturn(1);
+        UserService userService = new UserService(userRepository, passwordEncoder, storedPasswordCosts);
+
+        // when
+        userService.changePassword(1L, request);
+
+        // then
+        verify(userRepository).changePasswordIfUnchanged(eq(1L), eq("oldHash"), eq("newHash"), any(LocalDateTime.class));
+        verify(storedPasswordCosts).replaced("oldHash", "newHash");
+    }
+
+    @Test
+    public void 비밀번호가_그_사이_변경되었으면_예외가_발생한다() {
+        // given
+        UserChangePasswordRequest request = new UserChangePasswordRequest("Password1", "Password2");
+        given(userRepository.findById(1L)).willReturn(Optional.of(new User("a@a.com", "oldHash", UserRole.USER)));
+        given(passwordEncoder.matches("Password2", "oldHash")).willReturn(false);
+        given(passwordEncoder.matches("Password1", "oldHash")).willReturn(true);
+        given(passwordEncoder.encode("Password2")).willReturn("newHash");
+        given(userRepository.changePasswordIfUnchanged(any(), any(), any(), any())).willReturn(0);
+        UserService userService = new UserService(userRepository, passwordEncoder, storedPasswordCosts);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userService.changePassword(1L, request));
+        assertEquals("비밀번호가 그 사이 변경되었습니다. 다시 시도해주세요.", exception.getMessage());
+        verifyNoInteractions(storedPasswordCosts);
+    }
 }
@@ -0,0 +1,109 @@
+package org.example.expert.fixture;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 테스트용 데이터셋을 JDBC 배치로 넣습니다. 같은 크기면 항상 같은 데이터가 만들어집니다.
+// 빈 DB에 넣는다고 가정하므로 id는 1부터 차례대로 부여되며, 1번 사용자는 ADMIN, 나머지는 USER입니다.
+// i번 일정의 작성자는 ((i - 1) % users) + 1 번 사용자이고, 작성자 외에 다음 번호의 사용자들이 담당자로 등록됩니다.
+public class SeedDataset {
+
+    public static final String PASSWORD = "Password1";
+    private static final int BATCH_SIZE = 1000;
+
+    private final int users;
+    private final int todos;
+    private final int commentsPerTodo;
+    private final int managersPerTodo;
+
+    public SeedDataset(int users, int todos, int commentsPerTodo, int managersPerTodo) {
+        if (managersPerTodo < 1 || managersPerTodo > users) {
+            throw new IllegalArgumentException("managersPerTodo는 1 이상 users 이하여야 합니다.");
+        }
+        this.users = users;
+        this.todos = todos;
+        this.commentsPerTodo = commentsPerTodo;
+        this.managersPerTodo = managersPerTodo;
+    }
+
+    // 사용자 200명, 일정 2,000개, 댓글 50,000개, 담당자 6,000명
+    public static SeedDataset standard() {
+        return new SeedDataset(200, 2_000, 25, 3);
+    }
+
+    public void insert(JdbcTemplate jdbcTemplate) {
+        // 테스트 속도를 위해 가장 낮은 cost로 한 번만 해시합니다.
+        String password = BCrypt.withDefaults().hashToString(4, PASSWORD.toCharArray());
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int user = 1; user <= users; user++) {
+            Timestamp createdAt = Timestamp.valueOf(base);
+            rows.add(new Object[]{email(user), password, user == 1 ? "ADMIN" : "USER", createdAt, createdAt});
+            rows = flush(jdbcTemplate, "INSERT INTO users (email, password, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?)", rows, user == users);
+        }
+
+        for (int todo = 1; todo <= todos; todo++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(todo));
+            rows.add(new Object[]{"title " + todo, "contents " + todo, "Sunny", false, authorOf(todo), createdAt, createdAt});
+            rows = flush(jdbcTemplate, "INSERT INTO todos (title, contents, weather, weather_pending, user_id, created_at, modified_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)", rows, todo == todos);
+        }
+
+        for (int todo = 1; todo <= todos; todo++) {
+            for (int manager = 0; manager < managersPerTodo; manager++) {
+                rows.add(new Object[]{(authorOf(todo) - 1 + manager) % users + 1, todo});
+                rows = flush(jdbcTemplate, "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)", rows,
+                        todo == todos && manager == managersPerTodo - 1);
+            }
+        }
+
+        for (int todo = 1; todo <= todos; todo++) {
+            for (int comment = 1; comment <= commentsPerTodo; comment++) {
+                Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(todo).plusSeconds(comment));
+                rows.add(new Object[]{"comment " + comment, (todo + comment) % users + 1, todo, createdAt, createdAt});
+                rows = flush(jdbcTemplate, "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)", rows,
+                        todo == todos && comment == commentsPerTodo);
+            }
+        }
+    }
+
+    public int authorOf(long todoId) {
+        return (int) ((todoId - 1) % users) + 1;
+    }
+
+    public static String email(int user) {
+        return "user" + user + "@example.com";
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getTodos() {
+        return todos;
+    }
+
+    public int getCommentsPerTodo() {
+        return commentsPerTodo;
+    }
+
+    public int getManagersPerTodo() {
+        return managersPerTodo;
+    }
+
+    private static List<Object[]> flush(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows, boolean last) {
+        if (rows.size() < BATCH_SIZE && !last) {
+            return rows;
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+        return new ArrayList<>(BATCH_SIZE);
+    }
+}